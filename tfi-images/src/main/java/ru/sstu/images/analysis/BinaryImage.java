@@ -0,0 +1,572 @@
+package ru.sstu.images.analysis;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <code>BinaryImage</code> class represents black and white image, which
+ * uses one bit per pixel. Each row is stored in <code>long</code> words,
+ * bit <code>x % 64</code> of word <code>x / 64</code> is set for white
+ * pixel, so white pixel has brightness <code>1</code> as in {@link Image}.
+ * Bits after the last pixel of row are always clear.
+ * <p>
+ * Morphological operations use rectangular structuring element. Rows are
+ * processed 64 pixels per operation, and columns are processed by van Herk
+ * / Gil-Werman algorithm over whole words, so cost per word does not depend
+ * on element height. Erosion treats pixels outside of image as white,
+ * dilation treats them as black.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class BinaryImage {
+
+	private static final int WORD_SHIFT = 6;
+
+	private static final int WORD_SIZE = 1 << WORD_SHIFT;
+
+	private static final int BIT_MASK = WORD_SIZE - 1;
+
+	private final int width;
+
+	private final int height;
+
+	private final int stride;
+
+	private final long[] data;
+
+	/**
+	 * Initializes new black image.
+	 *
+	 * @param width  width
+	 * @param height height
+	 */
+	public BinaryImage(int width, int height) {
+		this.width = width;
+		this.height = height;
+		stride = (width + BIT_MASK) >>> WORD_SHIFT;
+		data = new long[stride * height];
+	}
+
+	/**
+	 * Initializes image using grey scale image. Pixels, which are not darker
+	 * than half of color range, are white.
+	 *
+	 * @param image grey scale image
+	 */
+	public BinaryImage(Image image) {
+		this(image, 1.0f / 2);
+	}
+
+	/**
+	 * Initializes image using grey scale image. Pixels are changed in the
+	 * same way as {@link ru.sstu.images.filters.BlackAndWhiteFilter} does.
+	 *
+	 * @param image     grey scale image
+	 * @param threshold black and white threshold
+	 */
+	public BinaryImage(Image image, float threshold) {
+		this(image.getWidth(), image.getHeight());
+		int median = (int) (Image.MAX_COLOR * threshold);
+		byte[] pixels = image.getData();
+		for (int j = 0; j < height; j++) {
+			int start = image.getOffset() + j * image.getStride();
+			for (int i = 0; i < width; i++) {
+				if ((pixels[start + i] & Image.MAX_COLOR) >= median) {
+					data[j * stride + (i >>> WORD_SHIFT)] |= 1L << i;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Provides image width.
+	 *
+	 * @return the width
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Provides image height.
+	 *
+	 * @return the height
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Provides array of words, which contains image pixels. Row
+	 * <code>y</code> starts from word <code>y * getStride()</code>.
+	 *
+	 * @return words array
+	 */
+	public long[] getData() {
+		return data;
+	}
+
+	/**
+	 * Provides count of words per row.
+	 *
+	 * @return stride
+	 */
+	public int getStride() {
+		return stride;
+	}
+
+	/**
+	 * Checks pixel.
+	 *
+	 * @param x x
+	 * @param y y
+	 * @return <code>true</code> if pixel is white
+	 */
+	public boolean isWhite(int x, int y) {
+		return (data[y * stride + (x >>> WORD_SHIFT)] & (1L << x)) != 0;
+	}
+
+	/**
+	 * Sets pixel.
+	 *
+	 * @param x     x
+	 * @param y     y
+	 * @param white <code>true</code> for white pixel
+	 */
+	public void setWhite(int x, int y, boolean white) {
+		int index = y * stride + (x >>> WORD_SHIFT);
+		if (white) {
+			data[index] |= 1L << x;
+		} else {
+			data[index] &= ~(1L << x);
+		}
+	}
+
+	/**
+	 * Counts white pixels.
+	 *
+	 * @return count of white pixels
+	 */
+	public long count() {
+		long count = 0;
+		for (long word : data) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/**
+	 * Creates grey scale image with black and white pixels.
+	 *
+	 * @return grey scale image
+	 */
+	public Image toImage() {
+		Image image = new Image(width, height);
+		byte[] pixels = image.getData();
+		for (int j = 0; j < height; j++) {
+			int start = image.getOffset() + j * image.getStride();
+			for (int i = 0; i < width; i++) {
+				if (isWhite(i, j)) {
+					pixels[start + i] = (byte) Image.MAX_COLOR;
+				}
+			}
+		}
+		return image;
+	}
+
+	/**
+	 * Creates new image as copy of region with given borders.
+	 *
+	 * @param x1 left edge
+	 * @param y1 top edge
+	 * @param x2 right edge
+	 * @param y2 bottom edge
+	 * @return image region
+	 */
+	public BinaryImage getRegion(int x1, int y1, int x2, int y2) {
+		BinaryImage region = new BinaryImage(x2 - x1, y2 - y1);
+		long[] row = new long[stride];
+		for (int j = 0; j < region.height; j++) {
+			shift(data, (y1 + j) * stride, row, 0, stride, x1);
+			System.arraycopy(row, 0, region.data, j * region.stride,
+					region.stride);
+			region.clearPadding(j);
+		}
+		return region;
+	}
+
+	/**
+	 * Dilates white pixels by square.
+	 *
+	 * @param radius radius of square
+	 * @return new image
+	 */
+	public BinaryImage dilate(int radius) {
+		return dilate(radius, radius);
+	}
+
+	/**
+	 * Dilates white pixels by rectangle.
+	 *
+	 * @param radiusX horizontal radius of rectangle
+	 * @param radiusY vertical radius of rectangle
+	 * @return new image
+	 */
+	public BinaryImage dilate(int radiusX, int radiusY) {
+		if (radiusX < 0 || radiusY < 0) {
+			throw new IllegalArgumentException();
+		}
+		long[] rows = new long[(height + 2 * radiusY) * stride];
+		long[] row = new long[stride];
+		long[] forward = new long[stride];
+		long[] temp = new long[stride];
+		for (int j = 0; j < height; j++) {
+			System.arraycopy(data, j * stride, row, 0, stride);
+			System.arraycopy(row, 0, forward, 0, stride);
+			spreadRow(forward, temp, radiusX + 1, 1);
+			spreadRow(row, temp, radiusX + 1, -1);
+			or(forward, row);
+			System.arraycopy(row, 0, rows, (j + radiusY) * stride, stride);
+		}
+		BinaryImage result = new BinaryImage(width, height);
+		result.dilateColumns(rows, radiusY);
+		for (int j = 0; j < height; j++) {
+			result.clearPadding(j);
+		}
+		return result;
+	}
+
+	/**
+	 * Erodes white pixels by square.
+	 *
+	 * @param radius radius of square
+	 * @return new image
+	 */
+	public BinaryImage erode(int radius) {
+		return erode(radius, radius);
+	}
+
+	/**
+	 * Erodes white pixels by rectangle.
+	 *
+	 * @param radiusX horizontal radius of rectangle
+	 * @param radiusY vertical radius of rectangle
+	 * @return new image
+	 */
+	public BinaryImage erode(int radiusX, int radiusY) {
+		return inverse().dilate(radiusX, radiusY).inverse();
+	}
+
+	/**
+	 * Applies morphological opening, i.e. erosion and then dilation. It
+	 * removes white details smaller than square.
+	 *
+	 * @param radius radius of square
+	 * @return new image
+	 */
+	public BinaryImage open(int radius) {
+		return open(radius, radius);
+	}
+
+	/**
+	 * Applies morphological opening with rectangle.
+	 *
+	 * @param radiusX horizontal radius of rectangle
+	 * @param radiusY vertical radius of rectangle
+	 * @return new image
+	 */
+	public BinaryImage open(int radiusX, int radiusY) {
+		return erode(radiusX, radiusY).dilate(radiusX, radiusY);
+	}
+
+	/**
+	 * Applies morphological closing, i.e. dilation and then erosion. It
+	 * fills black gaps smaller than square.
+	 *
+	 * @param radius radius of square
+	 * @return new image
+	 */
+	public BinaryImage close(int radius) {
+		return close(radius, radius);
+	}
+
+	/**
+	 * Applies morphological closing with rectangle.
+	 *
+	 * @param radiusX horizontal radius of rectangle
+	 * @param radiusY vertical radius of rectangle
+	 * @return new image
+	 */
+	public BinaryImage close(int radiusX, int radiusY) {
+		return dilate(radiusX, radiusY).erode(radiusX, radiusY);
+	}
+
+	/**
+	 * Creates inverted image.
+	 *
+	 * @return new image
+	 */
+	public BinaryImage inverse() {
+		BinaryImage result = new BinaryImage(width, height);
+		for (int k = 0; k < data.length; k++) {
+			result.data[k] = ~data[k];
+		}
+		for (int j = 0; j < height; j++) {
+			result.clearPadding(j);
+		}
+		return result;
+	}
+
+	/**
+	 * Searches for connected regions of white pixels. Pixels are connected
+	 * if they are neighbours horizontally, vertically or diagonally.
+	 *
+	 * @return bounding rectangles of regions, ordered by their top pixels
+	 */
+	public List<Rectangle> findRegions() {
+		Runs runs = new Runs();
+		int previous = 0;
+		for (int j = 0; j < height; j++) {
+			int current = runs.size;
+			findRuns(j, runs);
+			runs.connect(previous, current, runs.size);
+			previous = current;
+		}
+		List<Rectangle> regions = new ArrayList<Rectangle>();
+		int[] indices = new int[runs.size];
+		Arrays.fill(indices, -1);
+		for (int k = 0; k < runs.size; k++) {
+			int root = runs.find(k);
+			Rectangle run = new Rectangle(runs.starts[k], runs.rows[k],
+					runs.ends[k] - runs.starts[k], 1);
+			if (indices[root] < 0) {
+				indices[root] = regions.size();
+				regions.add(run);
+			} else {
+				regions.get(indices[root]).add(run);
+			}
+		}
+		return regions;
+	}
+
+	private void findRuns(int row, Runs runs) {
+		int start = nextBit(row, 0, true);
+		while (start < width) {
+			int end = nextBit(row, start, false);
+			runs.add(row, start, end);
+			start = nextBit(row, end, true);
+		}
+	}
+
+	/**
+	 * Searches for the next pixel of given color in row.
+	 *
+	 * @param row   row index
+	 * @param from  first pixel to be checked
+	 * @param white color to be found
+	 * @return index of pixel or width if not found
+	 */
+	private int nextBit(int row, int from, boolean white) {
+		int index = from >>> WORD_SHIFT;
+		if (index >= stride) {
+			return width;
+		}
+		long mask = white ? 0 : -1L;
+		long word = (data[row * stride + index] ^ mask) & (-1L << from);
+		while (word == 0) {
+			index++;
+			if (index == stride) {
+				return width;
+			}
+			word = data[row * stride + index] ^ mask;
+		}
+		return Math.min(width,
+				(index << WORD_SHIFT) + Long.numberOfTrailingZeros(word));
+	}
+
+	private void clearPadding(int row) {
+		int bits = width & BIT_MASK;
+		if (bits != 0) {
+			data[row * stride + stride - 1] &= (1L << bits) - 1;
+		}
+	}
+
+	/**
+	 * Spreads white pixels of row, so that bit is set if any bit of given
+	 * size span in given direction was set. Span is doubled at each step.
+	 *
+	 * @param row       row
+	 * @param temp      buffer of row size
+	 * @param size      size of span
+	 * @param direction <code>1</code> for span to the right,
+	 *                  <code>-1</code> for span to the left
+	 */
+	private static void spreadRow(long[] row, long[] temp, int size,
+			int direction) {
+		int span = 1;
+		while (2 * span <= size) {
+			shift(row, 0, temp, 0, row.length, direction * span);
+			or(temp, row);
+			span *= 2;
+		}
+		if (span < size) {
+			shift(row, 0, temp, 0, row.length, direction * (size - span));
+			or(temp, row);
+		}
+	}
+
+	/**
+	 * Fills this image by maximums over columns of padded rows, using
+	 * prefix and suffix maximums of row blocks.
+	 *
+	 * @param rows   rows padded by <code>radius</code> black rows
+	 * @param radius vertical radius
+	 */
+	private void dilateColumns(long[] rows, int radius) {
+		int size = 2 * radius + 1;
+		int count = rows.length / stride;
+		long[] prefix = new long[rows.length];
+		long[] suffix = new long[rows.length];
+		for (int j = 0; j < count; j++) {
+			for (int k = j * stride; k < (j + 1) * stride; k++) {
+				prefix[k] = j % size == 0 ? rows[k]
+						: prefix[k - stride] | rows[k];
+			}
+		}
+		for (int j = count - 1; j >= 0; j--) {
+			boolean last = j % size == size - 1 || j == count - 1;
+			for (int k = j * stride; k < (j + 1) * stride; k++) {
+				suffix[k] = last ? rows[k] : suffix[k + stride] | rows[k];
+			}
+		}
+		int offset = 2 * radius * stride;
+		for (int k = 0; k < data.length; k++) {
+			data[k] = suffix[k] | prefix[k + offset];
+		}
+	}
+
+	private static void or(long[] source, long[] target) {
+		for (int k = 0; k < target.length; k++) {
+			target[k] |= source[k];
+		}
+	}
+
+	/**
+	 * Shifts bits, so that bit <code>x</code> of target is bit
+	 * <code>x + distance</code> of source. Bits outside of source are clear.
+	 *
+	 * @param source       source words
+	 * @param sourceOffset first source word
+	 * @param target       target words
+	 * @param targetOffset first target word
+	 * @param words        count of words
+	 * @param distance     distance in bits, can be negative
+	 */
+	private static void shift(long[] source, int sourceOffset,
+			long[] target, int targetOffset, int words, int distance) {
+		int index = distance >> WORD_SHIFT;
+		int bits = distance & BIT_MASK;
+		for (int k = 0; k < words; k++) {
+			long low = word(source, sourceOffset, words, k + index);
+			long word = low >>> bits;
+			if (bits != 0) {
+				word |= word(source, sourceOffset, words, k + index + 1)
+						<< (WORD_SIZE - bits);
+			}
+			target[targetOffset + k] = word;
+		}
+	}
+
+	private static long word(long[] source, int offset, int words,
+			int index) {
+		if (index < 0 || index >= words) {
+			return 0;
+		}
+		return source[offset + index];
+	}
+
+	/**
+	 * <code>Runs</code> class keeps horizontal runs of white pixels and
+	 * joins connected ones using disjoint sets.
+	 */
+	private static final class Runs {
+
+		private static final int INITIAL_CAPACITY = 64;
+
+		private int[] rows = new int[INITIAL_CAPACITY];
+
+		private int[] starts = new int[INITIAL_CAPACITY];
+
+		private int[] ends = new int[INITIAL_CAPACITY];
+
+		private int[] parents = new int[INITIAL_CAPACITY];
+
+		private int size;
+
+		/**
+		 * Adds run.
+		 *
+		 * @param row   row index
+		 * @param start first pixel
+		 * @param end   pixel after the last one
+		 */
+		private void add(int row, int start, int end) {
+			if (size == rows.length) {
+				rows = Arrays.copyOf(rows, 2 * size);
+				starts = Arrays.copyOf(starts, 2 * size);
+				ends = Arrays.copyOf(ends, 2 * size);
+				parents = Arrays.copyOf(parents, 2 * size);
+			}
+			rows[size] = row;
+			starts[size] = start;
+			ends[size] = end;
+			parents[size] = size;
+			size++;
+		}
+
+		/**
+		 * Joins runs of current row with touching runs of previous row.
+		 *
+		 * @param previous first run of previous row
+		 * @param current  first run of current row
+		 * @param next     run after the last run of current row
+		 */
+		private void connect(int previous, int current, int next) {
+			int p = previous;
+			int c = current;
+			while (p < current && c < next) {
+				if (starts[p] <= ends[c] && starts[c] <= ends[p]) {
+					union(p, c);
+				}
+				if (ends[p] < ends[c]) {
+					p++;
+				} else {
+					c++;
+				}
+			}
+		}
+
+		private int find(int run) {
+			int root = run;
+			while (parents[root] != root) {
+				root = parents[root];
+			}
+			int k = run;
+			while (parents[k] != root) {
+				int next = parents[k];
+				parents[k] = root;
+				k = next;
+			}
+			return root;
+		}
+
+		private void union(int first, int second) {
+			int a = find(first);
+			int b = find(second);
+			parents[Math.max(a, b)] = Math.min(a, b);
+		}
+	}
+}
@@ -19,17 +19,44 @@ public class Distribution {
 	 * @param image image
 	 */
 	public Distribution(Image image) {
-		for (int i = 0; i < image.getWidth(); i++) {
-			for (int j = 0; j < image.getHeight(); j++) {
-				float value = image.getBrightness(i, j);
-				average += value;
-				dispersion += value * value;
+		int width = image.getWidth();
+		int height = image.getHeight();
+		byte[] data = image.getData();
+		long sum = 0;
+		long squares = 0;
+		for (int j = 0; j < height; j++) {
+			int start = image.getOffset() + j * image.getStride();
+			for (int k = start; k < start + width; k++) {
+				int value = data[k] & Image.MAX_COLOR;
+				sum += value;
+				squares += value * value;
 			}
 		}
-		int count = image.getWidth() * image.getHeight();
-		average /= count;
-		dispersion /= count;
-		dispersion = dispersion - average * average;
+		init(sum, squares, (long) width * height);
+	}
+
+	/**
+	 * Calculates distribution properties for rectangular region of image.
+	 * Cost does not depend on region size.
+	 *
+	 * @param image integral image with table of squared colors
+	 * @param x1    left edge
+	 * @param y1    top edge
+	 * @param x2    right edge, exclusive
+	 * @param y2    bottom edge, exclusive
+	 */
+	public Distribution(IntegralImage image, int x1, int y1, int x2,
+			int y2) {
+		init(image.getSum(x1, y1, x2, y2),
+				image.getSquareSum(x1, y1, x2, y2),
+				(long) (x2 - x1) * (y2 - y1));
+	}
+
+	private void init(long sum, long squares, long pixels) {
+		double count = (double) pixels * Image.MAX_COLOR;
+		double mean = sum / count;
+		average = (float) mean;
+		dispersion = (float) (squares / count / Image.MAX_COLOR - mean * mean);
 	}
 
 	/**
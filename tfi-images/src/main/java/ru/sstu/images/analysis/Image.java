@@ -1,6 +1,10 @@
 package ru.sstu.images.analysis;
 
 import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.SampleModel;
 import java.awt.image.WritableRaster;
 
 import ru.sstu.images.filters.Filter;
@@ -8,6 +12,16 @@ import ru.sstu.images.filters.Filter;
 /**
  * <code>Image</code> class represents raster image.
  * It is also can be part of another image.
+ * <p>
+ * Pixels are stored in grey scale byte array, which is accessible directly:
+ * color of pixel <code>(x, y)</code> is
+ * <code>getData()[getOffset() + y * getStride() + x] &amp; MAX_COLOR</code>.
+ * Hot loops should scan this array row by row instead of calling
+ * {@link #getColor(int, int)} for each pixel.
+ * <p>
+ * Single band byte raster is shared with its owner. Raster of any other
+ * layout is copied: only its first band is used, and later changes of the
+ * raster are not visible through the image, and vice versa.
  *
  * @author Denis_Murashev
  * @since Images 1.0
@@ -23,6 +37,12 @@ public class Image {
 
 	private WritableRaster raster;
 
+	private byte[] data;
+
+	private int offset;
+
+	private int stride;
+
 	/**
 	 * Initializes image using given buffered image.
 	 * Its raster is grey scaled first.
@@ -33,16 +53,27 @@ public class Image {
 		BufferedImage copy = new BufferedImage(image.getWidth(),
 				image.getHeight(), TYPE);
 		copy.createGraphics().drawImage(image, 0, 0, null);
-		raster = copy.getRaster();
+		setRaster(copy.getRaster());
 	}
 
 	/**
-	 * Initializes image using given raster.
+	 * Initializes image using given raster. Raster should be single band byte
+	 * raster, otherwise copy of its first band is used.
 	 *
 	 * @param raster raster
 	 */
 	public Image(WritableRaster raster) {
-		this.raster = raster;
+		setRaster(raster);
+	}
+
+	/**
+	 * Initializes new black image.
+	 *
+	 * @param width  width
+	 * @param height height
+	 */
+	public Image(int width, int height) {
+		this(new BufferedImage(width, height, TYPE).getRaster());
 	}
 
 	/**
@@ -55,12 +86,58 @@ public class Image {
 	}
 
 	/**
-	 * Sets new raster for image.
+	 * Sets new raster for image. Raster should be single band byte raster,
+	 * otherwise copy of its first band is used.
 	 *
 	 * @param raster the raster to set
 	 */
 	public void setRaster(WritableRaster raster) {
-		this.raster = raster;
+		if (!isDirect(raster)) {
+			this.raster = copyBand(raster);
+		} else {
+			this.raster = raster;
+		}
+		ComponentSampleModel model
+				= (ComponentSampleModel) this.raster.getSampleModel();
+		DataBuffer buffer = this.raster.getDataBuffer();
+		int bank = model.getBankIndices()[0];
+		data = ((DataBufferByte) buffer).getData(bank);
+		stride = model.getScanlineStride();
+		offset = buffer.getOffsets()[bank] + model.getOffset(
+				this.raster.getMinX() - this.raster.getSampleModelTranslateX(),
+				this.raster.getMinY() - this.raster.getSampleModelTranslateY(),
+				0);
+	}
+
+	/**
+	 * Provides array which contains image pixels. The array is shared with
+	 * raster, and can contain pixels outside of the image, if the image is
+	 * region of another one.
+	 *
+	 * @return pixels array
+	 * @see #getOffset()
+	 * @see #getStride()
+	 */
+	public byte[] getData() {
+		return data;
+	}
+
+	/**
+	 * Provides index of top left pixel in data array.
+	 *
+	 * @return offset
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Provides distance between vertically adjacent pixels in data array.
+	 *
+	 * @return stride
+	 */
+	public int getStride() {
+		return stride;
 	}
 
 	/**
@@ -96,25 +173,28 @@ public class Image {
 	 * Normalizes brightness of the image.
 	 */
 	public void normalize() {
+		int width = getWidth();
+		int height = getHeight();
 		int min = MAX_COLOR;
 		int max = 0;
-		for (int i = 0; i < getWidth(); i++) {
-			for (int j = 0; j < getHeight(); j++) {
-				int value = getColor(i, j);
-				if (value < min) {
-					min = value;
-				}
-				if (value > max) {
-					max = value;
-				}
+		for (int j = 0; j < height; j++) {
+			int start = offset + j * stride;
+			for (int k = start; k < start + width; k++) {
+				int value = data[k] & MAX_COLOR;
+				min = Math.min(min, value);
+				max = Math.max(max, value);
 			}
 		}
 		if (max != min) {
 			int size = max - min;
-			for (int i = 0; i < getWidth(); i++) {
-				for (int j = 0; j < getHeight(); j++) {
-					int value = MAX_COLOR * (getColor(i, j) - min) / size;
-					setColor(i, j, value);
+			byte[] table = new byte[MAX_COLOR + 1];
+			for (int i = min; i <= max; i++) {
+				table[i] = (byte) (MAX_COLOR * (i - min) / size);
+			}
+			for (int j = 0; j < height; j++) {
+				int start = offset + j * stride;
+				for (int k = start; k < start + width; k++) {
+					data[k] = table[data[k] & MAX_COLOR];
 				}
 			}
 		}
@@ -152,7 +232,7 @@ public class Image {
 	 * @return color
 	 */
 	public int getColor(int x, int y) {
-		return raster.getSample(x, y, 0);
+		return data[offset + y * stride + x] & MAX_COLOR;
 	}
 
 	/**
@@ -163,7 +243,7 @@ public class Image {
 	 * @param value new color
 	 */
 	public void setColor(int x, int y, int value) {
-		raster.setSample(x, y, 0, value);
+		data[offset + y * stride + x] = (byte) value;
 	}
 
 	/**
@@ -174,7 +254,7 @@ public class Image {
 	 * @return brightness
 	 */
 	public float getBrightness(int x, int y) {
-		return raster.getSampleFloat(x, y, 0) / MAX_COLOR;
+		return (float) getColor(x, y) / MAX_COLOR;
 	}
 
 	/**
@@ -185,7 +265,7 @@ public class Image {
 	 * @param value new brightness
 	 */
 	public void setBrightness(int x, int y, float value) {
-		raster.setSample(x, y, 0, (int) (value * MAX_COLOR));
+		setColor(x, y, (int) (value * MAX_COLOR));
 	}
 
 	/**
@@ -197,9 +277,10 @@ public class Image {
 		int width = getWidth();
 		int height = getHeight();
 		int[][] pixels = new int[width][height];
-		for (int i = 0; i < width; i++) {
-			for (int j = 0; j < height; j++) {
-				pixels[i][j] = getColor(i, j);
+		for (int j = 0; j < height; j++) {
+			int start = offset + j * stride;
+			for (int i = 0; i < width; i++) {
+				pixels[i][j] = data[start + i] & MAX_COLOR;
 			}
 		}
 		return pixels;
@@ -219,4 +300,27 @@ public class Image {
 			}
 		}
 	}
+
+	private static boolean isDirect(WritableRaster raster) {
+		SampleModel model = raster.getSampleModel();
+		return raster.getNumBands() == 1
+				&& raster.getDataBuffer() instanceof DataBufferByte
+				&& model instanceof ComponentSampleModel
+				&& ((ComponentSampleModel) model).getPixelStride() == 1;
+	}
+
+	private static WritableRaster copyBand(WritableRaster raster) {
+		int width = raster.getWidth();
+		int height = raster.getHeight();
+		int x = raster.getMinX();
+		int y = raster.getMinY();
+		WritableRaster copy = new BufferedImage(width, height, TYPE)
+				.getRaster();
+		int[] row = new int[width];
+		for (int j = 0; j < height; j++) {
+			raster.getSamples(x, y + j, width, 1, 0, row);
+			copy.setSamples(0, j, width, 1, 0, row);
+		}
+		return copy;
+	}
 }
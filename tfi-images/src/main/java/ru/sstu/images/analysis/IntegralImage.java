@@ -0,0 +1,157 @@
+package ru.sstu.images.analysis;
+
+/**
+ * <code>IntegralImage</code> class represents summed-area tables of image
+ * colors and, optionally, of their squares. Sum over any rectangle is
+ * calculated by four table lookups, so mean, dispersion and projections of
+ * image regions do not need to scan their pixels.
+ * <p>
+ * Table of colors takes four bytes per pixel while sum of whole image fits
+ * into 32 bits, i.e. for images up to 16 megapixels: entries overflow, but
+ * differences of them are exact modulo 2<sup>32</sup>. Larger images and
+ * table of squares take eight bytes per pixel.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class IntegralImage {
+
+	private static final long INT_MASK = (1L << Integer.SIZE) - 1;
+
+	private final int width;
+
+	private final int height;
+
+	private final int[] sums;
+
+	private final long[] longSums;
+
+	private final long[] squares;
+
+	/**
+	 * Calculates tables of colors and of squared colors for given image.
+	 *
+	 * @param image image
+	 */
+	public IntegralImage(Image image) {
+		this(image, true);
+	}
+
+	/**
+	 * Calculates tables for given image.
+	 *
+	 * @param image   image
+	 * @param squared <code>true</code> if table of squared colors is needed
+	 *                by {@link #getSquareSum(int, int, int, int)}
+	 */
+	public IntegralImage(Image image, boolean squared) {
+		width = image.getWidth();
+		height = image.getHeight();
+		int stride = width + 1;
+		int size = stride * (height + 1);
+		boolean small = (long) Image.MAX_COLOR * width * height <= INT_MASK;
+		sums = small ? new int[size] : null;
+		longSums = small ? null : new long[size];
+		squares = squared ? new long[size] : null;
+		byte[] data = image.getData();
+		for (int j = 0; j < height; j++) {
+			int start = image.getOffset() + j * image.getStride();
+			long sum = 0;
+			long square = 0;
+			for (int i = 0; i < width; i++) {
+				int value = data[start + i] & Image.MAX_COLOR;
+				sum += value;
+				square += value * value;
+				int index = (j + 1) * stride + i + 1;
+				if (small) {
+					sums[index] = sums[index - stride] + (int) sum;
+				} else {
+					longSums[index] = longSums[index - stride] + sum;
+				}
+				if (squared) {
+					squares[index] = squares[index - stride] + square;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Provides image width.
+	 *
+	 * @return the width
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Provides image height.
+	 *
+	 * @return the height
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * @return <code>true</code> if table of squared colors is calculated
+	 */
+	public boolean isSquared() {
+		return squares != null;
+	}
+
+	/**
+	 * Calculates sum of colors in rectangle.
+	 *
+	 * @param x1 left edge
+	 * @param y1 top edge
+	 * @param x2 right edge, exclusive
+	 * @param y2 bottom edge, exclusive
+	 * @return sum of colors
+	 */
+	public long getSum(int x1, int y1, int x2, int y2) {
+		if (longSums != null) {
+			return sum(longSums, x1, y1, x2, y2);
+		}
+		check(x1, y1, x2, y2);
+		int stride = width + 1;
+		int sum = sums[y2 * stride + x2] - sums[y1 * stride + x2]
+				- sums[y2 * stride + x1] + sums[y1 * stride + x1];
+		return sum & INT_MASK;
+	}
+
+	/**
+	 * Calculates sum of squared colors in rectangle. Table of squared colors
+	 * should be calculated, otherwise {@link IllegalStateException} is
+	 * thrown.
+	 *
+	 * @param x1 left edge
+	 * @param y1 top edge
+	 * @param x2 right edge, exclusive
+	 * @param y2 bottom edge, exclusive
+	 * @return sum of squared colors
+	 */
+	public long getSquareSum(int x1, int y1, int x2, int y2) {
+		if (squares == null) {
+			throw new IllegalStateException();
+		}
+		return sum(squares, x1, y1, x2, y2);
+	}
+
+	private long sum(long[] table, int x1, int y1, int x2, int y2) {
+		check(x1, y1, x2, y2);
+		int stride = width + 1;
+		return table[y2 * stride + x2] - table[y1 * stride + x2]
+				- table[y2 * stride + x1] + table[y1 * stride + x1];
+	}
+
+	private void check(int x1, int y1, int x2, int y2) {
+		if (!isRange(x1, x2, width) || !isRange(y1, y2, height)) {
+			throw new IllegalArgumentException();
+		}
+	}
+
+	private static boolean isRange(int from, int to, int size) {
+		return from >= 0 && from <= to && to <= size;
+	}
+}
@@ -32,12 +32,38 @@ public final class Projection implements Serializable {
 	 */
 	public static Projection horizontal(Image image) {
 		Projection projection = new Projection();
-		projection.values = new float[image.getWidth()];
-		for (int i = 0; i < image.getWidth(); i++) {
-			for (int j = 0; j < image.getHeight(); j++) {
-				projection.values[i] += image.getBrightness(i, j);
+		int width = image.getWidth();
+		byte[] data = image.getData();
+		int[] sums = new int[width];
+		for (int j = 0; j < image.getHeight(); j++) {
+			int start = image.getOffset() + j * image.getStride();
+			for (int i = 0; i < width; i++) {
+				sums[i] += data[start + i] & Image.MAX_COLOR;
 			}
 		}
+		projection.values = toBrightness(sums);
+		return projection;
+	}
+
+	/**
+	 * Calculate horizontal projection of rectangular region of image. Cost
+	 * is proportional to region width.
+	 *
+	 * @param image integral image
+	 * @param x1    left edge
+	 * @param y1    top edge
+	 * @param x2    right edge, exclusive
+	 * @param y2    bottom edge, exclusive
+	 * @return horizontal projection
+	 */
+	public static Projection horizontal(IntegralImage image, int x1, int y1,
+			int x2, int y2) {
+		Projection projection = new Projection();
+		projection.values = new float[x2 - x1];
+		for (int i = 0; i < projection.values.length; i++) {
+			projection.values[i] = (float) image.getSum(x1 + i, y1,
+					x1 + i + 1, y2) / Image.MAX_COLOR;
+		}
 		return projection;
 	}
 
@@ -48,12 +74,83 @@ public final class Projection implements Serializable {
 	 * @return vertical projection
 	 */
 	public static Projection vertical(Image image) {
+		Projection projection = new Projection();
+		int width = image.getWidth();
+		byte[] data = image.getData();
+		int[] sums = new int[image.getHeight()];
+		for (int j = 0; j < sums.length; j++) {
+			int start = image.getOffset() + j * image.getStride();
+			for (int k = start; k < start + width; k++) {
+				sums[j] += data[k] & Image.MAX_COLOR;
+			}
+		}
+		projection.values = toBrightness(sums);
+		return projection;
+	}
+
+	/**
+	 * Calculate vertical projection of rectangular region of image. Cost is
+	 * proportional to region height.
+	 *
+	 * @param image integral image
+	 * @param x1    left edge
+	 * @param y1    top edge
+	 * @param x2    right edge, exclusive
+	 * @param y2    bottom edge, exclusive
+	 * @return vertical projection
+	 */
+	public static Projection vertical(IntegralImage image, int x1, int y1,
+			int x2, int y2) {
+		Projection projection = new Projection();
+		projection.values = new float[y2 - y1];
+		for (int j = 0; j < projection.values.length; j++) {
+			projection.values[j] = (float) image.getSum(x1, y1 + j, x2,
+					y1 + j + 1) / Image.MAX_COLOR;
+		}
+		return projection;
+	}
+
+	/**
+	 * Calculate horizontal projection of binary image, i.e. count of white
+	 * pixels in each column.
+	 *
+	 * @param image binary image
+	 * @return horizontal projection
+	 */
+	public static Projection horizontal(BinaryImage image) {
+		Projection projection = new Projection();
+		projection.values = new float[image.getWidth()];
+		long[] data = image.getData();
+		int stride = image.getStride();
+		for (int k = 0; k < data.length; k++) {
+			int first = (k % stride) * Long.SIZE;
+			long word = data[k];
+			while (word != 0) {
+				projection.values[first + Long.numberOfTrailingZeros(word)]++;
+				word &= word - 1;
+			}
+		}
+		return projection;
+	}
+
+	/**
+	 * Calculate vertical projection of binary image, i.e. count of white
+	 * pixels in each row.
+	 *
+	 * @param image binary image
+	 * @return vertical projection
+	 */
+	public static Projection vertical(BinaryImage image) {
 		Projection projection = new Projection();
 		projection.values = new float[image.getHeight()];
-		for (int i = 0; i < image.getHeight(); i++) {
-			for (int j = 0; j < image.getWidth(); j++) {
-				projection.values[i] += image.getBrightness(j, i);
+		long[] data = image.getData();
+		int stride = image.getStride();
+		for (int j = 0; j < projection.values.length; j++) {
+			int count = 0;
+			for (int k = j * stride; k < (j + 1) * stride; k++) {
+				count += Long.bitCount(data[k]);
 			}
+			projection.values[j] = count;
 		}
 		return projection;
 	}
@@ -106,6 +203,14 @@ public final class Projection implements Serializable {
 		return peaks;
 	}
 
+	private static float[] toBrightness(int[] sums) {
+		float[] values = new float[sums.length];
+		for (int i = 0; i < sums.length; i++) {
+			values[i] = (float) sums[i] / Image.MAX_COLOR;
+		}
+		return values;
+	}
+
 	private Peak createPeak(int index, Set<Integer> available, float peakFoot) {
 		final float threshold = peakFoot * values[index];
 		int left = index;
@@ -30,14 +30,15 @@ public class AddFilter implements Filter {
 		Image secondImage = second.filter(image);
 		int width = image.getWidth();
 		int height = image.getHeight();
-		for (int i = 0; i < width; i++) {
-			for (int j = 0; j < height; j++) {
-				int value = firstImage.getColor(i, j)
-						+ secondImage.getColor(i, j);
-				if (value > Image.MAX_COLOR) {
-					value = Image.MAX_COLOR;
-				}
-				firstImage.setColor(i, j, value);
+		byte[] target = firstImage.getData();
+		byte[] source = secondImage.getData();
+		for (int j = 0; j < height; j++) {
+			int t = firstImage.getOffset() + j * firstImage.getStride();
+			int s = secondImage.getOffset() + j * secondImage.getStride();
+			for (int i = 0; i < width; i++) {
+				int value = (target[t + i] & Image.MAX_COLOR)
+						+ (source[s + i] & Image.MAX_COLOR);
+				target[t + i] = (byte) Math.min(value, Image.MAX_COLOR);
 			}
 		}
 		return firstImage;
@@ -23,7 +23,13 @@ public class BlackAndWhiteFilter extends RasterFilter {
 		super(new LookupOp(new ShortLookupTable(0, getData(threshhold)), null));
 	}
 
-	private static short[] getData(float threashhold) {
+	/**
+	 * Provides lookup table of thresholding.
+	 *
+	 * @param threashhold black and white threshold
+	 * @return lookup table
+	 */
+	static short[] getData(float threashhold) {
 		short[] data = new short[Image.MAX_COLOR + 1];
 		int median = (int) (Image.MAX_COLOR * threashhold);
 		for (int i = 0; i < median; i++) {
@@ -1,27 +1,83 @@
 package ru.sstu.images.filters;
 
-import java.awt.image.Kernel;
+import ru.sstu.images.analysis.Image;
 
 /**
- * <code>BlurFilter</code> class represents blur filter.
+ * <code>BlurFilter</code> class represents blur filter, which replaces
+ * pixel by average of square around it. Running sums are used, so cost per
+ * pixel does not depend on radius. Image edges are extended by replication
+ * of edge pixels.
+ * <p>
+ * The filter is not {@link ConvolveFilter} or {@link RasterFilter} any
+ * more, so it should be referenced as {@link Filter}.
  *
  * @author Denis_Murashev
  * @since Images 1.0
  */
-public class BlurFilter extends ConvolveFilter {
+public class BlurFilter implements Filter {
 
-	private static final int SIZE = 3;
+	private final int radius;
 
-	private static final float[] MATRIX = new float[] {
-			0.111f, 0.111f, 0.111f,
-			0.111f, 0.112f, 0.111f,
-			0.111f, 0.111f, 0.111f,
-	};
+	/**
+	 * Initializes new instance of blur filter for 3x3 square.
+	 */
+	public BlurFilter() {
+		this(1);
+	}
 
 	/**
 	 * Initializes new instance of blur filter.
+	 *
+	 * @param radius radius of square, <code>0</code> means no blur
 	 */
-	public BlurFilter() {
-		super(new Kernel(SIZE, SIZE, MATRIX));
+	public BlurFilter(int radius) {
+		if (radius < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.radius = radius;
+	}
+
+	@Override
+	public Image filter(Image image) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		int size = 2 * radius + 1;
+		int[] rows = new int[width * height];
+		int[] line = new int[width + 2 * radius];
+		for (int j = 0; j < height; j++) {
+			SeparableFilter.readRow(image, j, radius, line);
+			int sum = 0;
+			for (int k = 0; k < size - 1; k++) {
+				sum += line[k];
+			}
+			for (int i = 0; i < width; i++) {
+				sum += line[i + size - 1];
+				rows[j * width + i] = sum;
+				sum -= line[i];
+			}
+		}
+		long[] sums = new long[width];
+		for (int k = -radius; k < radius; k++) {
+			add(rows, SeparableFilter.clamp(k, height), sums, 1);
+		}
+		Image result = new Image(width, height);
+		byte[] data = result.getData();
+		long area = (long) size * size;
+		for (int j = 0; j < height; j++) {
+			add(rows, SeparableFilter.clamp(j + radius, height), sums, 1);
+			int start = result.getOffset() + j * result.getStride();
+			for (int i = 0; i < width; i++) {
+				data[start + i] = (byte) ((sums[i] + area / 2) / area);
+			}
+			add(rows, SeparableFilter.clamp(j - radius, height), sums, -1);
+		}
+		return result;
+	}
+
+	private static void add(int[] rows, int row, long[] sums, int sign) {
+		int start = row * sums.length;
+		for (int i = 0; i < sums.length; i++) {
+			sums[i] += sign * rows[start + i];
+		}
 	}
 }
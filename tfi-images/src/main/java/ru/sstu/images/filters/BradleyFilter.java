@@ -0,0 +1,35 @@
+package ru.sstu.images.filters;
+
+/**
+ * <code>BradleyFilter</code> class represents Bradley adaptive
+ * binarization. Pixel is black if it is darker than mean of window by given
+ * part of the mean.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class BradleyFilter extends LocalThresholdFilter {
+
+	private final double factor;
+
+	/**
+	 * Initializes filter.
+	 *
+	 * @param radius radius of window
+	 * @param t      part of mean, usually 0.15
+	 */
+	public BradleyFilter(int radius, float t) {
+		super(radius);
+		factor = 1 - t;
+	}
+
+	@Override
+	protected boolean isDispersionUsed() {
+		return false;
+	}
+
+	@Override
+	protected boolean isWhite(int value, long sum, long squares, int count) {
+		return (double) value * count > sum * factor;
+	}
+}
@@ -0,0 +1,38 @@
+package ru.sstu.images.filters;
+
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>CloseFilter</code> class represents morphological closing.
+ * Dilation is followed by erosion, which fills black gaps smaller
+ * than element.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class CloseFilter extends MorphologyFilter {
+
+	/**
+	 * Initializes filter with square element.
+	 *
+	 * @param radius radius of element
+	 */
+	public CloseFilter(int radius) {
+		super(radius, radius);
+	}
+
+	/**
+	 * Initializes filter with rectangular element.
+	 *
+	 * @param radiusX horizontal radius of element
+	 * @param radiusY vertical radius of element
+	 */
+	public CloseFilter(int radiusX, int radiusY) {
+		super(radiusX, radiusY);
+	}
+
+	@Override
+	public Image filter(Image image) {
+		return erode(dilate(image));
+	}
+}
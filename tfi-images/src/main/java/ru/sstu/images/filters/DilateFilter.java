@@ -0,0 +1,38 @@
+package ru.sstu.images.filters;
+
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>DilateFilter</code> class represents morphological dilation.
+ * Each pixel is replaced by maximum of element around it, which
+ * expands white areas.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class DilateFilter extends MorphologyFilter {
+
+	/**
+	 * Initializes filter with square element.
+	 *
+	 * @param radius radius of element
+	 */
+	public DilateFilter(int radius) {
+		super(radius, radius);
+	}
+
+	/**
+	 * Initializes filter with rectangular element.
+	 *
+	 * @param radiusX horizontal radius of element
+	 * @param radiusY vertical radius of element
+	 */
+	public DilateFilter(int radiusX, int radiusY) {
+		super(radiusX, radiusY);
+	}
+
+	@Override
+	public Image filter(Image image) {
+		return dilate(image);
+	}
+}
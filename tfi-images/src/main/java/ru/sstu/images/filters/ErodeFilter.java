@@ -0,0 +1,38 @@
+package ru.sstu.images.filters;
+
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>ErodeFilter</code> class represents morphological erosion.
+ * Each pixel is replaced by minimum of element around it, which
+ * shrinks white areas.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class ErodeFilter extends MorphologyFilter {
+
+	/**
+	 * Initializes filter with square element.
+	 *
+	 * @param radius radius of element
+	 */
+	public ErodeFilter(int radius) {
+		super(radius, radius);
+	}
+
+	/**
+	 * Initializes filter with rectangular element.
+	 *
+	 * @param radiusX horizontal radius of element
+	 * @param radiusY vertical radius of element
+	 */
+	public ErodeFilter(int radiusX, int radiusY) {
+		super(radiusX, radiusY);
+	}
+
+	@Override
+	public Image filter(Image image) {
+		return erode(image);
+	}
+}
@@ -0,0 +1,270 @@
+package ru.sstu.images.filters;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>FilterPipeline</code> class records chain of filters and applies it
+ * with minimal count of passes over memory. Consecutive point operations
+ * (lookup tables, inversion, thresholding and normalization) are composed
+ * into single lookup table, which is applied while neighbourhood filter
+ * reads its source. Neighbourhood filters with known radius are applied
+ * to horizontal bands of image, so source band stays in cache.
+ * <p>
+ * Example:
+ * <pre>
+ * Image result = new FilterPipeline().normalize()
+ *         .add(new MedianFilter(), 1).inverse().threshold(0.5f)
+ *         .filter(image);
+ * </pre>
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class FilterPipeline implements Filter {
+
+	private static final int BAND_HEIGHT = 64;
+
+	private final List<Step> steps = new ArrayList<Step>();
+
+	/**
+	 * Adds lookup table operation.
+	 *
+	 * @param table new colors for each color, from <code>0</code> to
+	 *              {@link Image#MAX_COLOR}
+	 * @return this pipeline
+	 */
+	public FilterPipeline lookup(short[] table) {
+		if (table.length != Image.MAX_COLOR + 1) {
+			throw new IllegalArgumentException();
+		}
+		byte[] data = new byte[table.length];
+		for (int i = 0; i < table.length; i++) {
+			if (table[i] < 0 || table[i] > Image.MAX_COLOR) {
+				throw new IllegalArgumentException();
+			}
+			data[i] = (byte) table[i];
+		}
+		steps.add(new Step(data, false, null, 0));
+		return this;
+	}
+
+	/**
+	 * Adds inversion, the same as {@link InverseFilter}.
+	 *
+	 * @return this pipeline
+	 */
+	public FilterPipeline inverse() {
+		return lookup(InverseFilter.getData());
+	}
+
+	/**
+	 * Adds thresholding, the same as {@link BlackAndWhiteFilter}.
+	 *
+	 * @param threshold black and white threshold
+	 * @return this pipeline
+	 */
+	public FilterPipeline threshold(float threshold) {
+		return lookup(BlackAndWhiteFilter.getData(threshold));
+	}
+
+	/**
+	 * Adds brightness normalization, the same as {@link Image#normalize()}.
+	 *
+	 * @return this pipeline
+	 */
+	public FilterPipeline normalize() {
+		steps.add(new Step(null, true, null, 0));
+		return this;
+	}
+
+	/**
+	 * Adds local filter, which is applied to bands of image. The filter
+	 * should preserve image size, and color of pixel should depend on pixels
+	 * which are not farther than halo.
+	 *
+	 * @param filter filter
+	 * @param halo   radius of the filter
+	 * @return this pipeline
+	 */
+	public FilterPipeline add(Filter filter, int halo) {
+		if (halo < 0) {
+			throw new IllegalArgumentException();
+		}
+		steps.add(new Step(null, false, filter, halo));
+		return this;
+	}
+
+	/**
+	 * Adds arbitrary filter, which is applied to whole image.
+	 *
+	 * @param filter filter
+	 * @return this pipeline
+	 */
+	public FilterPipeline add(Filter filter) {
+		steps.add(new Step(null, false, filter, -1));
+		return this;
+	}
+
+	@Override
+	public Image filter(Image image) {
+		Image current = image;
+		byte[] table = identity();
+		for (Step step : steps) {
+			if (step.table != null) {
+				table = compose(table, step.table);
+			} else if (step.normalize) {
+				table = compose(table, normalization(current, table));
+			} else {
+				current = apply(current, table, step);
+				table = identity();
+			}
+		}
+		if (current != image && isIdentity(table)) {
+			return current;
+		}
+		Image result = new Image(current.getWidth(), current.getHeight());
+		copyRows(current, 0, result, 0, current.getHeight(), table);
+		return result;
+	}
+
+	private static Image apply(Image image, byte[] table, Step step) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		if (step.halo < 0) {
+			Image source = new Image(width, height);
+			copyRows(image, 0, source, 0, height, table);
+			return step.filter.filter(source);
+		}
+		Image result = new Image(width, height);
+		for (int top = 0; top < height; top += BAND_HEIGHT) {
+			int bottom = Math.min(top + BAND_HEIGHT, height);
+			int from = Math.max(0, top - step.halo);
+			int to = Math.min(height, bottom + step.halo);
+			Image band = new Image(width, to - from);
+			copyRows(image, from, band, 0, to - from, table);
+			Image filtered = step.filter.filter(band);
+			copyRows(filtered, top - from, result, top, bottom - top, null);
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates normalization table for image, which colors are changed by
+	 * given table.
+	 *
+	 * @param image image
+	 * @param table pending lookup table
+	 * @return normalization table
+	 */
+	private static byte[] normalization(Image image, byte[] table) {
+		boolean[] present = new boolean[Image.MAX_COLOR + 1];
+		byte[] data = image.getData();
+		for (int j = 0; j < image.getHeight(); j++) {
+			int start = image.getOffset() + j * image.getStride();
+			for (int k = start; k < start + image.getWidth(); k++) {
+				present[table[data[k] & Image.MAX_COLOR] & Image.MAX_COLOR]
+						= true;
+			}
+		}
+		int min = 0;
+		while (min < Image.MAX_COLOR && !present[min]) {
+			min++;
+		}
+		int max = Image.MAX_COLOR;
+		while (max > min && !present[max]) {
+			max--;
+		}
+		byte[] normalization = identity();
+		for (int i = min; i <= max && max != min; i++) {
+			normalization[i] = (byte) (Image.MAX_COLOR * (i - min)
+					/ (max - min));
+		}
+		return normalization;
+	}
+
+	/**
+	 * Copies rows of one image to another, changing colors by table.
+	 *
+	 * @param source source image
+	 * @param from   first source row
+	 * @param target target image
+	 * @param to     first target row
+	 * @param rows   count of rows
+	 * @param table  lookup table or <code>null</code>
+	 */
+	private static void copyRows(Image source, int from, Image target,
+			int to, int rows, byte[] table) {
+		int width = source.getWidth();
+		byte[] input = source.getData();
+		byte[] output = target.getData();
+		for (int j = 0; j < rows; j++) {
+			int s = source.getOffset() + (from + j) * source.getStride();
+			int t = target.getOffset() + (to + j) * target.getStride();
+			if (table == null) {
+				System.arraycopy(input, s, output, t, width);
+			} else {
+				for (int i = 0; i < width; i++) {
+					output[t + i] = table[input[s + i] & Image.MAX_COLOR];
+				}
+			}
+		}
+	}
+
+	private static byte[] identity() {
+		byte[] table = new byte[Image.MAX_COLOR + 1];
+		for (int i = 0; i < table.length; i++) {
+			table[i] = (byte) i;
+		}
+		return table;
+	}
+
+	private static boolean isIdentity(byte[] table) {
+		for (int i = 0; i < table.length; i++) {
+			if ((table[i] & Image.MAX_COLOR) != i) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static byte[] compose(byte[] first, byte[] second) {
+		byte[] table = new byte[first.length];
+		for (int i = 0; i < table.length; i++) {
+			table[i] = second[first[i] & Image.MAX_COLOR];
+		}
+		return table;
+	}
+
+	/**
+	 * <code>Step</code> class represents single recorded operation.
+	 */
+	private static final class Step {
+
+		private final byte[] table;
+
+		private final boolean normalize;
+
+		private final Filter filter;
+
+		private final int halo;
+
+		/**
+		 * Initializes step.
+		 *
+		 * @param table     lookup table or <code>null</code>
+		 * @param normalize <code>true</code> for normalization
+		 * @param filter    filter or <code>null</code>
+		 * @param halo      radius of filter, negative for whole image
+		 */
+		private Step(byte[] table, boolean normalize, Filter filter,
+				int halo) {
+			this.table = table;
+			this.normalize = normalize;
+			this.filter = filter;
+			this.halo = halo;
+		}
+	}
+}
@@ -1,14 +1,17 @@
 package ru.sstu.images.filters;
 
-import java.awt.image.Kernel;
-
 /**
- * <code>GaussFilter</code> class represents Gaussian filter.
+ * <code>GaussFilter</code> class represents Gaussian filter. Kernel is
+ * separable, so the filter is applied by {@link SeparableFilter} passes,
+ * and image edges are extended by replication of edge pixels.
+ * <p>
+ * The filter is not {@link ConvolveFilter} any more, so it should be
+ * referenced as {@link SeparableFilter} or {@link Filter}.
  *
  * @author Denis_Murashev
  * @since Images 1.0
  */
-public class GaussFilter extends ConvolveFilter {
+public class GaussFilter extends SeparableFilter {
 
 	/**
 	 * Initializes Gauus filter for given size and sigma.
@@ -20,24 +23,27 @@ public class GaussFilter extends ConvolveFilter {
 		super(getKernel(size, sigma));
 	}
 
-	private static Kernel getKernel(int size, float sigma) {
+	/**
+	 * Provides normalized one-dimensional Gaussian kernel.
+	 *
+	 * @param size  size of vector. The size should be odd
+	 * @param sigma sigma in Gaussian distribution
+	 * @return kernel vector
+	 */
+	static float[] getKernel(int size, float sigma) {
 		if (size % 2 == 0 || size < 0) {
 			throw new IllegalArgumentException();
 		}
-		float[] matrix = new float[size * size];
+		float[] vector = new float[size];
 		float sum = 0;
 		for (int i = 0; i < size; i++) {
-			for (int j = 0; j < size; j++) {
-				int x = i - size / 2;
-				int y = i - size / 2;
-				int r2 = x * x + y * y;
-				matrix[i + j * size] = (float) Math.exp(r2 / sigma);
-				sum += matrix[i + j * size];
-			}
+			int x = i - size / 2;
+			vector[i] = (float) Math.exp(-x * x / (2 * sigma * sigma));
+			sum += vector[i];
 		}
-		for (int i = 0; i < matrix.length; i++) {
-			matrix[i] /= sum;
+		for (int i = 0; i < vector.length; i++) {
+			vector[i] /= sum;
 		}
-		return new Kernel(size, size, matrix);
+		return vector;
 	}
 }
@@ -21,7 +21,12 @@ public class InverseFilter extends RasterFilter {
 		super(new LookupOp(new ShortLookupTable(0, getData()), null));
 	}
 
-	private static short[] getData() {
+	/**
+	 * Provides lookup table of inversion.
+	 *
+	 * @return lookup table
+	 */
+	static short[] getData() {
 		short[] data = new short[MAX_COLOR + 1];
 		for (int i = 0; i < data.length; i++) {
 			data[i] = (short) (MAX_COLOR - i);
@@ -0,0 +1,87 @@
+package ru.sstu.images.filters;
+
+import ru.sstu.images.analysis.Image;
+import ru.sstu.images.analysis.IntegralImage;
+
+/**
+ * <code>LocalThresholdFilter</code> class changes all pixel colors to black
+ * or white using threshold, which depends on mean and dispersion of square
+ * window around pixel. Window statistics are taken from
+ * {@link IntegralImage}, so cost per pixel does not depend on window size.
+ * Table of squared colors is calculated only if dispersion is used.
+ * Window is clipped by image edges.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public abstract class LocalThresholdFilter implements Filter {
+
+	private final int radius;
+
+	/**
+	 * Initializes filter.
+	 *
+	 * @param radius radius of window
+	 */
+	protected LocalThresholdFilter(int radius) {
+		if (radius < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.radius = radius;
+	}
+
+	/**
+	 * @return radius of window
+	 */
+	public int getRadius() {
+		return radius;
+	}
+
+	@Override
+	public Image filter(Image image) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		IntegralImage integral = new IntegralImage(image,
+				isDispersionUsed());
+		Image result = new Image(width, height);
+		byte[] source = image.getData();
+		byte[] target = result.getData();
+		for (int j = 0; j < height; j++) {
+			int y1 = Math.max(0, j - radius);
+			int y2 = Math.min(height, j + radius + 1);
+			int start = image.getOffset() + j * image.getStride();
+			int end = result.getOffset() + j * result.getStride();
+			for (int i = 0; i < width; i++) {
+				int x1 = Math.max(0, i - radius);
+				int x2 = Math.min(width, i + radius + 1);
+				int count = (x2 - x1) * (y2 - y1);
+				long sum = integral.getSum(x1, y1, x2, y2);
+				long squares = isDispersionUsed()
+						? integral.getSquareSum(x1, y1, x2, y2) : 0;
+				int value = source[start + i] & Image.MAX_COLOR;
+				if (isWhite(value, sum, squares, count)) {
+					target[end + i] = (byte) Image.MAX_COLOR;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return <code>true</code> if sum of squared colors is needed
+	 */
+	protected abstract boolean isDispersionUsed();
+
+	/**
+	 * Checks whether pixel is white.
+	 *
+	 * @param value   color of pixel
+	 * @param sum     sum of colors in window
+	 * @param squares sum of squared colors in window, or <code>0</code> if
+	 *                dispersion is not used
+	 * @param count   count of pixels in window
+	 * @return <code>true</code> if pixel is white
+	 */
+	protected abstract boolean isWhite(int value, long sum, long squares,
+			int count);
+}
@@ -5,47 +5,220 @@ import java.util.Arrays;
 import ru.sstu.images.analysis.Image;
 
 /**
- * <code>MedianFilter</code> class represents median filter.
- * Important! The class is not thread safe!
+ * <code>MedianFilter</code> class represents median filter, which replaces
+ * pixel by median of square around it. Constant time algorithm of Perreault
+ * and Hebert is used: histogram of each column is kept while rows are
+ * scanned, and histogram of the square is updated by adding one column
+ * histogram and subtracting another one, so cost per pixel does not depend
+ * on radius. Image edges are extended by replication of edge pixels.
  *
  * @author Denis_Murashev
  * @since Images 1.0
  */
 public class MedianFilter implements Filter {
 
-	private static final int MEDIAN_INDEX = 5;
+	private static final int LEVELS = Image.MAX_COLOR + 1;
 
-	private byte[] values = new byte[Image.MAX_COLOR + 1];
+	private static final int COARSE_SHIFT = 4;
+
+	private static final int COARSE_LEVELS = LEVELS >> COARSE_SHIFT;
+
+	private final int radius;
+
+	/**
+	 * Initializes median filter for 3x3 square.
+	 */
+	public MedianFilter() {
+		this(1);
+	}
+
+	/**
+	 * Initializes median filter.
+	 *
+	 * @param radius radius of square, <code>0</code> means no filtering
+	 */
+	public MedianFilter(int radius) {
+		if (radius < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.radius = radius;
+	}
 
 	@Override
 	public Image filter(Image image) {
-		Image result = new Image(image.getRaster());
-		for (int i = 1; i < image.getWidth() - 1; i++) {
-			for (int j = 1; j < image.getHeight() - 1; j++) {
-				result.setColor(i, j, getMedian(image, i, j));
+		int width = image.getWidth();
+		int height = image.getHeight();
+		Histograms histograms = new Histograms(width, radius);
+		histograms.addRow(image, 0, radius + 1);
+		for (int k = 1; k <= radius; k++) {
+			histograms.addRow(image, SeparableFilter.clamp(k, height), 1);
+		}
+		Image result = new Image(width, height);
+		byte[] target = result.getData();
+		int size = 2 * radius + 1;
+		int rank = size * size / 2;
+		for (int j = 0; j < height; j++) {
+			histograms.startRow();
+			int start = result.getOffset() + j * result.getStride();
+			for (int i = 0; i < width; i++) {
+				target[start + i] = (byte) histograms.getMedian(rank);
+				histograms.next();
 			}
+			histograms.addRow(image,
+					SeparableFilter.clamp(j + radius + 1, height), 1);
+			histograms.addRow(image,
+					SeparableFilter.clamp(j - radius, height), -1);
 		}
 		return result;
 	}
 
-	private int getMedian(Image image, int x, int y) {
-		Arrays.fill(values, (byte) 0);
-		int min = Image.MAX_COLOR;
-		for (int i = x - 1; i <= x + 1; i++) {
-			for (int j = y - 1; j <= y + 1; j++) {
-				int index = image.getColor(i, j);
-				values[index]++;
-				if (index < min) {
-					min = index;
+	/**
+	 * <code>Histograms</code> class keeps histograms of columns and of
+	 * current square. Each histogram has two levels: coarse one is used to
+	 * find median quickly, and fine one gives its exact value. Fine segments
+	 * of square histogram are updated lazily, only when median falls into
+	 * them.
+	 */
+	private static final class Histograms {
+
+		private final int width;
+
+		private final int radius;
+
+		private final int[] columns;
+
+		private final int[] coarseColumns;
+
+		private final int[] kernel = new int[LEVELS];
+
+		private final int[] coarseKernel = new int[COARSE_LEVELS];
+
+		private final int[] updated = new int[COARSE_LEVELS];
+
+		private int center;
+
+		/**
+		 * Initializes empty histograms.
+		 *
+		 * @param width  count of columns
+		 * @param radius radius of square
+		 */
+		private Histograms(int width, int radius) {
+			this.width = width;
+			this.radius = radius;
+			columns = new int[width * LEVELS];
+			coarseColumns = new int[width * COARSE_LEVELS];
+		}
+
+		/**
+		 * Adds image row to column histograms.
+		 *
+		 * @param image  image
+		 * @param row    row index
+		 * @param factor count of additions, negative for removal
+		 */
+		private void addRow(Image image, int row, int factor) {
+			byte[] data = image.getData();
+			int start = image.getOffset() + row * image.getStride();
+			for (int i = 0; i < width; i++) {
+				int value = data[start + i] & Image.MAX_COLOR;
+				columns[i * LEVELS + value] += factor;
+				coarseColumns[i * COARSE_LEVELS + (value >> COARSE_SHIFT)]
+						+= factor;
+			}
+		}
+
+		/**
+		 * Places square at the beginning of row.
+		 */
+		private void startRow() {
+			center = 0;
+			Arrays.fill(coarseKernel, 0);
+			for (int c = -radius; c <= radius; c++) {
+				int start = SeparableFilter.clamp(c, width) * COARSE_LEVELS;
+				for (int v = 0; v < COARSE_LEVELS; v++) {
+					coarseKernel[v] += coarseColumns[start + v];
+				}
+			}
+			Arrays.fill(updated, -1);
+		}
+
+		/**
+		 * Moves square to the next pixel.
+		 */
+		private void next() {
+			int added = SeparableFilter.clamp(center + radius + 1, width)
+					* COARSE_LEVELS;
+			int removed = SeparableFilter.clamp(center - radius, width)
+					* COARSE_LEVELS;
+			for (int v = 0; v < COARSE_LEVELS; v++) {
+				coarseKernel[v] += coarseColumns[added + v]
+						- coarseColumns[removed + v];
+			}
+			center++;
+		}
+
+		/**
+		 * Brings fine segment of square histogram up to date.
+		 *
+		 * @param coarse coarse level
+		 */
+		private void update(int coarse) {
+			int from = coarse << COARSE_SHIFT;
+			int to = from + (1 << COARSE_SHIFT);
+			if (updated[coarse] < 0
+					|| center - updated[coarse] > 2 * radius + 1) {
+				Arrays.fill(kernel, from, to, 0);
+				for (int c = center - radius; c <= center + radius; c++) {
+					addSegment(SeparableFilter.clamp(c, width), from, to, 1);
+				}
+			} else {
+				for (int c = updated[coarse]; c < center; c++) {
+					addSegment(SeparableFilter.clamp(c + radius + 1, width),
+							from, to, 1);
+					addSegment(SeparableFilter.clamp(c - radius, width),
+							from, to, -1);
 				}
 			}
+			updated[coarse] = center;
 		}
-		int median = min;
-		int sum = values[min];
-		while (sum < MEDIAN_INDEX) {
-			median++;
-			sum += values[median];
+
+		/**
+		 * Adds segment of column histogram to square histogram.
+		 *
+		 * @param column column index
+		 * @param from   first level
+		 * @param to     level after last one
+		 * @param factor <code>1</code> for addition, <code>-1</code> for
+		 *               removal
+		 */
+		private void addSegment(int column, int from, int to, int factor) {
+			int start = column * LEVELS;
+			for (int v = from; v < to; v++) {
+				kernel[v] += factor * columns[start + v];
+			}
+		}
+
+		/**
+		 * Searches for value of given rank in square histogram.
+		 *
+		 * @param rank zero based rank
+		 * @return value
+		 */
+		private int getMedian(int rank) {
+			int sum = 0;
+			int coarse = 0;
+			while (sum + coarseKernel[coarse] <= rank) {
+				sum += coarseKernel[coarse];
+				coarse++;
+			}
+			update(coarse);
+			int value = coarse << COARSE_SHIFT;
+			while (sum + kernel[value] <= rank) {
+				sum += kernel[value];
+				value++;
+			}
+			return value;
 		}
-		return median;
 	}
 }
@@ -0,0 +1,174 @@
+package ru.sstu.images.filters;
+
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>MorphologyFilter</code> class is base class of morphological
+ * filters with rectangular structuring element. Dilation and erosion are
+ * calculated by van Herk / Gil-Werman algorithm: each row and then each
+ * column is split into blocks of element size, prefix and suffix maximums
+ * of blocks are calculated, and maximum of window is maximum of suffix and
+ * prefix values. So cost per pixel does not depend on element size.
+ * Erosion treats pixels outside of image as white, dilation treats them as
+ * black.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public abstract class MorphologyFilter implements Filter {
+
+	private final int radiusX;
+
+	private final int radiusY;
+
+	/**
+	 * Initializes filter.
+	 *
+	 * @param radiusX horizontal radius of element, its width is
+	 *                <code>2 * radiusX + 1</code>
+	 * @param radiusY vertical radius of element, its height is
+	 *                <code>2 * radiusY + 1</code>
+	 */
+	protected MorphologyFilter(int radiusX, int radiusY) {
+		if (radiusX < 0 || radiusY < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.radiusX = radiusX;
+		this.radiusY = radiusY;
+	}
+
+	/**
+	 * @return horizontal radius of element
+	 */
+	public int getRadiusX() {
+		return radiusX;
+	}
+
+	/**
+	 * @return vertical radius of element
+	 */
+	public int getRadiusY() {
+		return radiusY;
+	}
+
+	/**
+	 * Dilates image, i.e. replaces each pixel by maximum of element around
+	 * it.
+	 *
+	 * @param image image
+	 * @return new image
+	 */
+	protected Image dilate(Image image) {
+		return apply(image, 0);
+	}
+
+	/**
+	 * Erodes image, i.e. replaces each pixel by minimum of element around
+	 * it.
+	 *
+	 * @param image image
+	 * @return new image
+	 */
+	protected Image erode(Image image) {
+		return apply(image, Image.MAX_COLOR);
+	}
+
+	/**
+	 * Calculates maximums of colors combined with mask by exclusive or.
+	 * Mask of all ones turns maximum into minimum.
+	 *
+	 * @param image image
+	 * @param mask  <code>0</code> or {@link Image#MAX_COLOR}
+	 * @return new image
+	 */
+	private Image apply(Image image, int mask) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		byte[] data = image.getData();
+		int size = width + 2 * radiusX;
+		int[] line = new int[size];
+		int[] prefix = new int[size];
+		int[] suffix = new int[size];
+		// Rows are padded by black pixels, which do not change maximum
+		byte[] rows = new byte[(height + 2 * radiusY) * width];
+		for (int j = 0; j < height; j++) {
+			int start = image.getOffset() + j * image.getStride();
+			for (int i = 0; i < width; i++) {
+				line[radiusX + i] = (data[start + i] & Image.MAX_COLOR) ^ mask;
+			}
+			blocks(line, prefix, suffix, 2 * radiusX + 1);
+			int row = (radiusY + j) * width;
+			for (int i = 0; i < width; i++) {
+				rows[row + i] = (byte) Math.max(suffix[i],
+						prefix[i + 2 * radiusX]);
+			}
+		}
+		return columns(rows, width, height, mask);
+	}
+
+	/**
+	 * Calculates maximums over columns of padded rows.
+	 *
+	 * @param rows   rows padded by <code>radiusY</code> black rows
+	 * @param width  image width
+	 * @param height image height
+	 * @param mask   mask of colors
+	 * @return new image
+	 */
+	private Image columns(byte[] rows, int width, int height, int mask) {
+		int size = 2 * radiusY + 1;
+		int count = rows.length / width;
+		byte[] prefix = new byte[rows.length];
+		byte[] suffix = new byte[rows.length];
+		for (int j = 0; j < count; j++) {
+			int row = j * width;
+			boolean first = j % size == 0;
+			for (int i = row; i < row + width; i++) {
+				prefix[i] = first ? rows[i] : max(prefix[i - width], rows[i]);
+			}
+		}
+		for (int j = count - 1; j >= 0; j--) {
+			int row = j * width;
+			boolean last = j % size == size - 1 || j == count - 1;
+			for (int i = row; i < row + width; i++) {
+				suffix[i] = last ? rows[i] : max(suffix[i + width], rows[i]);
+			}
+		}
+		Image result = new Image(width, height);
+		byte[] target = result.getData();
+		for (int j = 0; j < height; j++) {
+			int start = result.getOffset() + j * result.getStride();
+			int top = j * width;
+			int bottom = (j + 2 * radiusY) * width;
+			for (int i = 0; i < width; i++) {
+				target[start + i] = (byte) ((max(suffix[top + i],
+						prefix[bottom + i]) & Image.MAX_COLOR) ^ mask);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates prefix and suffix maximums of blocks of given size.
+	 *
+	 * @param line   values
+	 * @param prefix prefix maximums
+	 * @param suffix suffix maximums
+	 * @param size   size of block
+	 */
+	private static void blocks(int[] line, int[] prefix, int[] suffix,
+			int size) {
+		for (int i = 0; i < line.length; i++) {
+			prefix[i] = i % size == 0 ? line[i]
+					: Math.max(prefix[i - 1], line[i]);
+		}
+		for (int i = line.length - 1; i >= 0; i--) {
+			boolean last = i % size == size - 1 || i == line.length - 1;
+			suffix[i] = last ? line[i] : Math.max(suffix[i + 1], line[i]);
+		}
+	}
+
+	private static byte max(byte a, byte b) {
+		return (a & Image.MAX_COLOR) > (b & Image.MAX_COLOR) ? a : b;
+	}
+}
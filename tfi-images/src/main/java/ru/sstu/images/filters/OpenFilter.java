@@ -0,0 +1,38 @@
+package ru.sstu.images.filters;
+
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>OpenFilter</code> class represents morphological opening.
+ * Erosion is followed by dilation, which removes white details
+ * smaller than element.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class OpenFilter extends MorphologyFilter {
+
+	/**
+	 * Initializes filter with square element.
+	 *
+	 * @param radius radius of element
+	 */
+	public OpenFilter(int radius) {
+		super(radius, radius);
+	}
+
+	/**
+	 * Initializes filter with rectangular element.
+	 *
+	 * @param radiusX horizontal radius of element
+	 * @param radiusY vertical radius of element
+	 */
+	public OpenFilter(int radiusX, int radiusY) {
+		super(radiusX, radiusY);
+	}
+
+	@Override
+	public Image filter(Image image) {
+		return dilate(erode(image));
+	}
+}
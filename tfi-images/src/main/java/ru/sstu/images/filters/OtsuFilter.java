@@ -0,0 +1,77 @@
+package ru.sstu.images.filters;
+
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>OtsuFilter</code> class changes all pixel colors to black or white
+ * using global threshold, which is chosen by Otsu method: it maximizes
+ * variance between black and white classes. Threshold is calculated from
+ * single histogram pass.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class OtsuFilter implements Filter {
+
+	@Override
+	public Image filter(Image image) {
+		int level = getLevel(image);
+		byte[] table = new byte[Image.MAX_COLOR + 1];
+		for (int i = level + 1; i < table.length; i++) {
+			table[i] = (byte) Image.MAX_COLOR;
+		}
+		Image result = new Image(image.getWidth(), image.getHeight());
+		byte[] source = image.getData();
+		byte[] target = result.getData();
+		for (int j = 0; j < image.getHeight(); j++) {
+			int start = image.getOffset() + j * image.getStride();
+			int end = result.getOffset() + j * result.getStride();
+			for (int i = 0; i < image.getWidth(); i++) {
+				target[end + i] = table[source[start + i] & Image.MAX_COLOR];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates Otsu threshold of image.
+	 *
+	 * @param image image
+	 * @return the greatest color of black pixels
+	 */
+	public static int getLevel(Image image) {
+		long[] histogram = new long[Image.MAX_COLOR + 1];
+		byte[] data = image.getData();
+		for (int j = 0; j < image.getHeight(); j++) {
+			int start = image.getOffset() + j * image.getStride();
+			for (int k = start; k < start + image.getWidth(); k++) {
+				histogram[data[k] & Image.MAX_COLOR]++;
+			}
+		}
+		long total = 0;
+		double sum = 0.0;
+		for (int i = 0; i < histogram.length; i++) {
+			total += histogram[i];
+			sum += (double) i * histogram[i];
+		}
+		long black = 0;
+		double blackSum = 0.0;
+		double best = -1.0;
+		int level = 0;
+		for (int i = 0; i < histogram.length - 1; i++) {
+			black += histogram[i];
+			blackSum += (double) i * histogram[i];
+			long white = total - black;
+			if (black == 0 || white == 0) {
+				continue;
+			}
+			double delta = blackSum / black - (sum - blackSum) / white;
+			double variance = (double) black * white * delta * delta;
+			if (variance > best) {
+				best = variance;
+				level = i;
+			}
+		}
+		return level;
+	}
+}
@@ -0,0 +1,159 @@
+package ru.sstu.images.filters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>ParallelFilter</code> class applies another filter to horizontal
+ * bands of image concurrently. Each band is extended by halo rows above and
+ * below it, so the filter sees all neighbours of band pixels, and only band
+ * rows are copied to the result.
+ * <p>
+ * The filter should be local, i.e. color of pixel should depend on pixels
+ * which are not farther than halo, it should preserve image size and it
+ * should be thread safe. Convolution, median, lookup filters and edge
+ * detectors meet these requirements.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class ParallelFilter implements Filter {
+
+	private static final int MIN_BAND_HEIGHT = 16;
+
+	private final Filter filter;
+
+	private final int halo;
+
+	private final ExecutorService executor;
+
+	private final int bands;
+
+	/**
+	 * Initializes parallel filter. Image is split to one band per available
+	 * processor.
+	 *
+	 * @param filter   filter to be applied
+	 * @param halo     radius of the filter
+	 * @param executor executor service
+	 */
+	public ParallelFilter(Filter filter, int halo, ExecutorService executor) {
+		this(filter, halo, executor,
+				Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Initializes parallel filter.
+	 *
+	 * @param filter   filter to be applied
+	 * @param halo     radius of the filter
+	 * @param executor executor service
+	 * @param bands    maximal count of bands
+	 */
+	public ParallelFilter(Filter filter, int halo, ExecutorService executor,
+			int bands) {
+		if (halo < 0 || bands < 1) {
+			throw new IllegalArgumentException();
+		}
+		this.filter = filter;
+		this.halo = halo;
+		this.executor = executor;
+		this.bands = bands;
+	}
+
+	@Override
+	public Image filter(Image image) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		int step = Math.max(MIN_BAND_HEIGHT, (height + bands - 1) / bands);
+		Image result = new Image(width, height);
+		List<Future<?>> futures = new ArrayList<Future<?>>();
+		for (int top = 0; top < height; top += step) {
+			futures.add(executor.submit(new BandTask(image, result, top,
+					Math.min(top + step, height))));
+		}
+		try {
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+		return result;
+	}
+
+	/**
+	 * Copies rows of one image to another.
+	 *
+	 * @param source source image
+	 * @param from   first source row
+	 * @param target target image
+	 * @param to     first target row
+	 * @param rows   count of rows
+	 */
+	private static void copyRows(Image source, int from, Image target,
+			int to, int rows) {
+		int width = source.getWidth();
+		for (int j = 0; j < rows; j++) {
+			System.arraycopy(source.getData(),
+					source.getOffset() + (from + j) * source.getStride(),
+					target.getData(),
+					target.getOffset() + (to + j) * target.getStride(),
+					width);
+		}
+	}
+
+	/**
+	 * <code>BandTask</code> class filters single band of image.
+	 */
+	private final class BandTask implements Callable<Object> {
+
+		private final Image source;
+
+		private final Image target;
+
+		private final int top;
+
+		private final int bottom;
+
+		/**
+		 * Initializes task.
+		 *
+		 * @param source source image
+		 * @param target target image
+		 * @param top    first row of band
+		 * @param bottom row after last row of band
+		 */
+		private BandTask(Image source, Image target, int top, int bottom) {
+			this.source = source;
+			this.target = target;
+			this.top = top;
+			this.bottom = bottom;
+		}
+
+		@Override
+		public Object call() {
+			int from = Math.max(0, top - halo);
+			int to = Math.min(source.getHeight(), bottom + halo);
+			// Band is copied, so that filters writing to their source do not
+			// disturb halo of neighbour bands
+			Image band = new Image(source.getWidth(), to - from);
+			copyRows(source, from, band, 0, to - from);
+			Image filtered = filter.filter(band);
+			copyRows(filtered, top - from, target, top, bottom - top);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package ru.sstu.images.filters;
+
+/**
+ * <code>SauvolaFilter</code> class represents Sauvola adaptive
+ * binarization. Threshold is <code>m (1 + k (s / R - 1))</code>, where
+ * <code>m</code> and <code>s</code> are mean and standard deviation of
+ * window, and <code>R</code> is half of color range.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class SauvolaFilter extends LocalThresholdFilter {
+
+	private static final double RANGE = 128.0;
+
+	private final double k;
+
+	/**
+	 * Initializes filter.
+	 *
+	 * @param radius radius of window
+	 * @param k      sensitivity, usually from 0.2 to 0.5
+	 */
+	public SauvolaFilter(int radius, float k) {
+		super(radius);
+		this.k = k;
+	}
+
+	@Override
+	protected boolean isDispersionUsed() {
+		return true;
+	}
+
+	@Override
+	protected boolean isWhite(int value, long sum, long squares, int count) {
+		double mean = (double) sum / count;
+		double dispersion = Math.max(0.0, (double) squares / count
+				- mean * mean);
+		double threshold = mean * (1 + k * (Math.sqrt(dispersion) / RANGE
+				- 1));
+		return value > threshold;
+	}
+}
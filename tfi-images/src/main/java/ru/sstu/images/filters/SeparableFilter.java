@@ -0,0 +1,114 @@
+package ru.sstu.images.filters;
+
+import java.util.Arrays;
+
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>SeparableFilter</code> class represents convolution with separable
+ * kernel, i.e. kernel which is product of horizontal and vertical vectors.
+ * Image is convolved by two one-dimensional passes, so cost per pixel is
+ * proportional to kernel size instead of its square. Image edges are
+ * extended by replication of edge pixels.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class SeparableFilter implements Filter {
+
+	private static final float HALF = 0.5f;
+
+	private final float[] horizontal;
+
+	private final float[] vertical;
+
+	/**
+	 * Initializes filter with the same horizontal and vertical vectors.
+	 *
+	 * @param kernel kernel vector. Its size should be odd
+	 */
+	public SeparableFilter(float[] kernel) {
+		this(kernel, kernel);
+	}
+
+	/**
+	 * Initializes filter.
+	 *
+	 * @param horizontal horizontal kernel vector. Its size should be odd
+	 * @param vertical   vertical kernel vector. Its size should be odd
+	 */
+	public SeparableFilter(float[] horizontal, float[] vertical) {
+		if (horizontal.length % 2 == 0 || vertical.length % 2 == 0) {
+			throw new IllegalArgumentException();
+		}
+		this.horizontal = horizontal.clone();
+		this.vertical = vertical.clone();
+	}
+
+	@Override
+	public Image filter(Image image) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		int radius = horizontal.length / 2;
+		float[] rows = new float[width * height];
+		int[] line = new int[width + 2 * radius];
+		for (int j = 0; j < height; j++) {
+			readRow(image, j, radius, line);
+			for (int i = 0; i < width; i++) {
+				float sum = 0.0f;
+				for (int k = 0; k < horizontal.length; k++) {
+					sum += horizontal[k] * line[i + k];
+				}
+				rows[j * width + i] = sum;
+			}
+		}
+		Image result = new Image(width, height);
+		byte[] data = result.getData();
+		float[] sums = new float[width];
+		radius = vertical.length / 2;
+		for (int j = 0; j < height; j++) {
+			Arrays.fill(sums, 0.0f);
+			for (int k = 0; k < vertical.length; k++) {
+				int row = clamp(j + k - radius, height) * width;
+				for (int i = 0; i < width; i++) {
+					sums[i] += vertical[k] * rows[row + i];
+				}
+			}
+			int start = result.getOffset() + j * result.getStride();
+			for (int i = 0; i < width; i++) {
+				data[start + i] = (byte) clamp((int) (sums[i] + HALF),
+						Image.MAX_COLOR + 1);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Reads image row to buffer, extending it by given count of replicated
+	 * edge pixels at both sides.
+	 *
+	 * @param image  image
+	 * @param row    row index
+	 * @param radius count of pixels to be added at each side
+	 * @param line   buffer of <code>width + 2 * radius</code> size
+	 */
+	static void readRow(Image image, int row, int radius, int[] line) {
+		int width = image.getWidth();
+		byte[] data = image.getData();
+		int start = image.getOffset() + row * image.getStride();
+		for (int i = 0; i < line.length; i++) {
+			line[i] = data[start + clamp(i - radius, width)] & Image.MAX_COLOR;
+		}
+	}
+
+	/**
+	 * Clamps index to given range.
+	 *
+	 * @param index index
+	 * @param size  size of range
+	 * @return index within <code>[0, size)</code> range
+	 */
+	static int clamp(int index, int size) {
+		return Math.max(0, Math.min(index, size - 1));
+	}
+}
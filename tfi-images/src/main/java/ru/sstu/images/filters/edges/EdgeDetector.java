@@ -9,16 +9,79 @@ import ru.sstu.images.filters.Filter;
 
 /**
  * <code>EdgeDetector</code> class is used for edge detection in images.
+ * All kernel responses are calculated in single pass over the image. By
+ * default result is saturated sum of clamped responses, which is the same
+ * as result of {@link AddFilter} composition of {@link #vertical()} and
+ * {@link #horizontal()} filters. Optionally gradient magnitude is
+ * calculated instead.
  *
  * @author Denis_Murashev
  * @since Images 1.0
  */
 public abstract class EdgeDetector implements Filter {
 
+	private static final int SIZE = 3;
+
+	private final boolean magnitude;
+
+	/**
+	 * Initializes edge detector, which sums kernel responses.
+	 */
+	protected EdgeDetector() {
+		this(false);
+	}
+
+	/**
+	 * Initializes edge detector.
+	 *
+	 * @param magnitude <code>true</code> if gradient magnitude
+	 *                  <code>sqrt(gx<sup>2</sup> + gy<sup>2</sup>)</code>
+	 *                  should be calculated instead of sum of responses
+	 */
+	protected EdgeDetector(boolean magnitude) {
+		this.magnitude = magnitude;
+	}
+
+	/**
+	 * @return <code>true</code> if gradient magnitude is calculated
+	 */
+	public boolean isMagnitude() {
+		return magnitude;
+	}
+
 	@Override
 	public Image filter(Image image) {
-		Filter addFilter = new AddFilter(vertical(), horizontal());
-		return addFilter.filter(image);
+		float[] vertical = getVerticalMatrix();
+		float[] horizontal = KernelUtil.rotateRight90(vertical);
+		float[][] kernels = {
+			vertical,
+			horizontal,
+			KernelUtil.flipVertical(vertical),
+			KernelUtil.flipHorizontal(horizontal),
+		};
+		int width = image.getWidth();
+		int height = image.getHeight();
+		Image result = new Image(width, height);
+		byte[] source = image.getData();
+		byte[] target = result.getData();
+		float[] pixels = new float[SIZE * SIZE];
+		int stride = image.getStride();
+		for (int j = 1; j < height - 1; j++) {
+			int start = image.getOffset() + j * stride;
+			int end = result.getOffset() + j * result.getStride();
+			for (int i = 1; i < width - 1; i++) {
+				// Neighbours are reversed, as ConvolveOp flips kernel
+				int k = pixels.length;
+				for (int dy = -stride; dy <= stride; dy += stride) {
+					for (int dx = -1; dx <= 1; dx++) {
+						pixels[--k] = source[start + i + dy + dx]
+								& Image.MAX_COLOR;
+					}
+				}
+				target[end + i] = (byte) respond(kernels, pixels);
+			}
+		}
+		return result;
 	}
 
 	/**
@@ -67,4 +130,32 @@ public abstract class EdgeDetector implements Filter {
 	 * @return <code>true</code> if kernel matrix is symmetric
 	 */
 	protected abstract boolean isSymmetric();
+
+	private int respond(float[][] kernels, float[] pixels) {
+		float gx = dot(kernels[0], pixels);
+		float gy = dot(kernels[1], pixels);
+		if (magnitude) {
+			return clamp((float) Math.sqrt(gx * gx + gy * gy));
+		}
+		if (isSymmetric()) {
+			return Math.min(clamp(gx) + clamp(gy), Image.MAX_COLOR);
+		}
+		int vertical = Math.min(clamp(gx) + clamp(dot(kernels[2], pixels)),
+				Image.MAX_COLOR);
+		int horizontal = Math.min(clamp(gy) + clamp(dot(
+				kernels[kernels.length - 1], pixels)), Image.MAX_COLOR);
+		return Math.min(vertical + horizontal, Image.MAX_COLOR);
+	}
+
+	private static float dot(float[] kernel, float[] pixels) {
+		float sum = 0.0f;
+		for (int k = 0; k < kernel.length; k++) {
+			sum += kernel[k] * pixels[k];
+		}
+		return sum;
+	}
+
+	private static int clamp(float value) {
+		return Math.max(0, Math.min((int) value, Image.MAX_COLOR));
+	}
 }
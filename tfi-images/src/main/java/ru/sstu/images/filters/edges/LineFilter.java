@@ -14,6 +14,22 @@ public class LineFilter extends EdgeDetector {
 			-1, 2, -1,
 	};
 
+	/**
+	 * Initializes filter, which sums kernel responses.
+	 */
+	public LineFilter() {
+	}
+
+	/**
+	 * Initializes filter.
+	 *
+	 * @param magnitude <code>true</code> if gradient magnitude should be
+	 *                  calculated instead of sum of responses
+	 */
+	public LineFilter(boolean magnitude) {
+		super(magnitude);
+	}
+
 	@Override
 	protected float[] getVerticalMatrix() {
 		return MATRIX;
@@ -14,6 +14,22 @@ public class SobelFilter extends EdgeDetector {
 			-1, 0, 1,
 	};
 
+	/**
+	 * Initializes filter, which sums kernel responses.
+	 */
+	public SobelFilter() {
+	}
+
+	/**
+	 * Initializes filter.
+	 *
+	 * @param magnitude <code>true</code> if gradient magnitude should be
+	 *                  calculated instead of sum of responses
+	 */
+	public SobelFilter(boolean magnitude) {
+		super(magnitude);
+	}
+
 	@Override
 	protected float[] getVerticalMatrix() {
 		return MATRIX;
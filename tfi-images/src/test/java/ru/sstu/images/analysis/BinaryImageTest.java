@@ -0,0 +1,239 @@
+package ru.sstu.images.analysis;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * <code>BinaryImageTest</code> class is unit test for {@link BinaryImage}
+ * class.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class BinaryImageTest extends TestCase {
+
+	/**
+	 * Widths of test images around word size.
+	 */
+	private static final int[] WIDTHS = {63, 64, 65};
+
+	/**
+	 * Height of test images.
+	 */
+	private static final int HEIGHT = 23;
+
+	/**
+	 * Tested radii.
+	 */
+	private static final int[] RADII = {0, 1, 2, 3, 5, 31, 40, 70};
+
+	/**
+	 * Probability of white pixel in test images.
+	 */
+	private static final double DENSITY = 0.3;
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 9L;
+
+	/**
+	 * Tests conversion to grey scale image and back.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testToImage() throws Exception {
+		for (int width : WIDTHS) {
+			BinaryImage binary = createImage(width, HEIGHT);
+			Image image = binary.toImage();
+			assertEquals(width, image.getWidth());
+			assertEquals(HEIGHT, image.getHeight());
+			long count = 0;
+			for (int y = 0; y < HEIGHT; y++) {
+				for (int x = 0; x < width; x++) {
+					boolean white = binary.isWhite(x, y);
+					assertEquals(white ? Image.MAX_COLOR : 0,
+							image.getColor(x, y));
+					if (white) {
+						count++;
+					}
+				}
+			}
+			assertEquals(count, binary.count());
+			assertEquals(binary, new BinaryImage(image));
+		}
+	}
+
+	/**
+	 * Tests that projections of binary image are the same as projections
+	 * of its grey scale copy.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testProjection() throws Exception {
+		for (int width : WIDTHS) {
+			BinaryImage binary = createImage(width, HEIGHT);
+			Image image = binary.toImage();
+			assertTrue(Arrays.equals(Projection.horizontal(image).getValues(),
+					Projection.horizontal(binary).getValues()));
+			assertTrue(Arrays.equals(Projection.vertical(image).getValues(),
+					Projection.vertical(binary).getValues()));
+		}
+	}
+
+	/**
+	 * Tests {@link BinaryImage#dilate(int, int)} method.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testDilate() throws Exception {
+		for (int width : WIDTHS) {
+			BinaryImage image = createImage(width, HEIGHT);
+			for (int radiusX : RADII) {
+				for (int radiusY : RADII) {
+					assertEquals(naive(image, radiusX, radiusY, true),
+							image.dilate(radiusX, radiusY));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests {@link BinaryImage#erode(int, int)} method.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testErode() throws Exception {
+		for (int width : WIDTHS) {
+			BinaryImage image = createImage(width, HEIGHT).inverse();
+			for (int radiusX : RADII) {
+				for (int radiusY : RADII) {
+					assertEquals(naive(image, radiusX, radiusY, false),
+							image.erode(radiusX, radiusY));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests {@link BinaryImage#findRegions()} method.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testFindRegions() throws Exception {
+		for (int width : WIDTHS) {
+			BinaryImage image = createImage(width, HEIGHT);
+			assertEquals(floodFill(image), image.findRegions());
+		}
+	}
+
+	/**
+	 * Tests that pixels, which touch each other only diagonally, are
+	 * connected, also across word boundary.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testFindRegionsDiagonal() throws Exception {
+		final int width = 130;
+		final int height = 6;
+		final int right = 66;
+		final int single = 8;
+		BinaryImage image = new BinaryImage(width, height);
+		for (int k = 0; k < height; k++) {
+			image.setWhite(k, k, true);
+			image.setWhite(right - k, k, true);
+		}
+		image.setWhite(single, 0, true);
+		List<Rectangle> regions = image.findRegions();
+		assertEquals(floodFill(image), regions);
+		assertEquals(Arrays.asList(new Rectangle(0, 0, height, height),
+				new Rectangle(single, 0, 1, 1),
+				new Rectangle(right - height + 1, 0, height, height)),
+				regions);
+	}
+
+	private static void assertEquals(BinaryImage expected,
+			BinaryImage actual) {
+		assertEquals(expected.getWidth(), actual.getWidth());
+		assertEquals(expected.getHeight(), actual.getHeight());
+		assertTrue(Arrays.equals(expected.getData(), actual.getData()));
+	}
+
+	private static BinaryImage createImage(int width, int height) {
+		Random random = new Random(SEED + width);
+		BinaryImage image = new BinaryImage(width, height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setWhite(x, y, random.nextDouble() < DENSITY);
+			}
+		}
+		return image;
+	}
+
+	private static BinaryImage naive(BinaryImage image, int radiusX,
+			int radiusY, boolean dilation) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		BinaryImage result = new BinaryImage(width, height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				boolean any = false;
+				boolean all = true;
+				for (int j = Math.max(y - radiusY, 0);
+						j <= Math.min(y + radiusY, height - 1); j++) {
+					for (int i = Math.max(x - radiusX, 0);
+							i <= Math.min(x + radiusX, width - 1); i++) {
+						any |= image.isWhite(i, j);
+						all &= image.isWhite(i, j);
+					}
+				}
+				result.setWhite(x, y, dilation ? any : all);
+			}
+		}
+		return result;
+	}
+
+	private static List<Rectangle> floodFill(BinaryImage image) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		boolean[][] visited = new boolean[width][height];
+		List<Rectangle> regions = new ArrayList<Rectangle>();
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				if (image.isWhite(x, y) && !visited[x][y]) {
+					regions.add(fill(image, visited, new Point(x, y)));
+				}
+			}
+		}
+		return regions;
+	}
+
+	private static Rectangle fill(BinaryImage image, boolean[][] visited,
+			Point start) {
+		Rectangle region = new Rectangle(start.x, start.y, 1, 1);
+		List<Point> stack = new ArrayList<Point>();
+		stack.add(start);
+		visited[start.x][start.y] = true;
+		while (!stack.isEmpty()) {
+			Point p = stack.remove(stack.size() - 1);
+			region.add(new Rectangle(p.x, p.y, 1, 1));
+			for (int y = Math.max(p.y - 1, 0);
+					y <= Math.min(p.y + 1, image.getHeight() - 1); y++) {
+				for (int x = Math.max(p.x - 1, 0);
+						x <= Math.min(p.x + 1, image.getWidth() - 1); x++) {
+					if (image.isWhite(x, y) && !visited[x][y]) {
+						visited[x][y] = true;
+						stack.add(new Point(x, y));
+					}
+				}
+			}
+		}
+		return region;
+	}
+}
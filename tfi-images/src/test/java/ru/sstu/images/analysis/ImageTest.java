@@ -0,0 +1,113 @@
+package ru.sstu.images.analysis;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+
+import junit.framework.TestCase;
+
+/**
+ * <code>ImageTest</code> class is unit test for {@link Image} class.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class ImageTest extends TestCase {
+
+	/**
+	 * Width of test images.
+	 */
+	private static final int WIDTH = 4;
+
+	/**
+	 * Height of test images.
+	 */
+	private static final int HEIGHT = 3;
+
+	/**
+	 * Step between colors of adjacent pixels.
+	 */
+	private static final int STEP = 10;
+
+	/**
+	 * Color of bands other than the first one.
+	 */
+	private static final int OTHER = 200;
+
+	/**
+	 * Tests that first band of multi-band raster is used.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testMultiBandRaster() throws Exception {
+		WritableRaster raster = createRaster();
+		Image image = new Image(raster);
+		assertEquals(WIDTH, image.getWidth());
+		assertEquals(HEIGHT, image.getHeight());
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				assertEquals(raster.getSample(x, y, 0), image.getColor(x, y));
+			}
+		}
+		for (int x = 0; x < WIDTH; x++) {
+			assertEquals(x * STEP, image.getColor(x, 0));
+		}
+	}
+
+	/**
+	 * Tests multi-band child raster with translated coordinates.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testMultiBandChildRaster() throws Exception {
+		final int childX = 5;
+		final int childY = 7;
+		WritableRaster raster = createRaster();
+		WritableRaster child = raster.createWritableChild(1, 1, WIDTH - 1,
+				HEIGHT - 1, childX, childY, null);
+		Image image = new Image(child);
+		assertEquals(WIDTH - 1, image.getWidth());
+		assertEquals(HEIGHT - 1, image.getHeight());
+		for (int y = 0; y < HEIGHT - 1; y++) {
+			for (int x = 0; x < WIDTH - 1; x++) {
+				assertEquals(raster.getSample(x + 1, y + 1, 0),
+						image.getColor(x, y));
+			}
+		}
+	}
+
+	/**
+	 * Tests {@link Image#getRegion(int, int, int, int)} method.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testGetRegion() throws Exception {
+		Image image = new Image(createRaster());
+		Image region = image.getRegion(1, 1, WIDTH, HEIGHT);
+		assertSame(image.getData(), region.getData());
+		assertEquals(WIDTH - 1, region.getWidth());
+		assertEquals(HEIGHT - 1, region.getHeight());
+		for (int y = 0; y < HEIGHT - 1; y++) {
+			for (int x = 0; x < WIDTH - 1; x++) {
+				assertEquals(image.getColor(x + 1, y + 1),
+						region.getColor(x, y));
+			}
+		}
+		region.setColor(0, 0, OTHER);
+		assertEquals(OTHER, image.getColor(1, 1));
+		assertEquals(OTHER, image.getRaster().getSample(1, 1, 0));
+	}
+
+	private static WritableRaster createRaster() {
+		WritableRaster raster = new BufferedImage(WIDTH, HEIGHT,
+				BufferedImage.TYPE_3BYTE_BGR).getRaster();
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				raster.setSample(x, y, 0, (x + y * WIDTH) * STEP);
+				for (int b = 1; b < raster.getNumBands(); b++) {
+					raster.setSample(x, y, b, OTHER);
+				}
+			}
+		}
+		return raster;
+	}
+}
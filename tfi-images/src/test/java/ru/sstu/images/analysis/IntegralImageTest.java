@@ -0,0 +1,207 @@
+package ru.sstu.images.analysis;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * <code>IntegralImageTest</code> class is unit test for
+ * {@link IntegralImage} class and for region statistics based on it.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class IntegralImageTest extends TestCase {
+
+	/**
+	 * Width of test image.
+	 */
+	private static final int WIDTH = 37;
+
+	/**
+	 * Height of test image.
+	 */
+	private static final int HEIGHT = 23;
+
+	/**
+	 * Tested rectangles: left, top, right and bottom edges.
+	 */
+	private static final int[][] RECTANGLES = {
+		{0, 0, WIDTH, HEIGHT},
+		{1, 1, WIDTH - 1, HEIGHT - 1},
+		{5, 3, 6, HEIGHT},
+		{0, 7, WIDTH, 8},
+		{WIDTH - 1, HEIGHT - 1, WIDTH, HEIGHT},
+		{11, 2, 30, 17},
+	};
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 13L;
+
+	/**
+	 * Tests sums against direct summation.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testSums() throws Exception {
+		Image image = createImage();
+		IntegralImage integral = new IntegralImage(image);
+		assertEquals(WIDTH, integral.getWidth());
+		assertEquals(HEIGHT, integral.getHeight());
+		assertTrue(integral.isSquared());
+		for (int[] r : RECTANGLES) {
+			long sum = 0;
+			long squares = 0;
+			for (int y = r[1]; y < r[2 + 1]; y++) {
+				for (int x = r[0]; x < r[2]; x++) {
+					int value = image.getColor(x, y);
+					sum += value;
+					squares += value * value;
+				}
+			}
+			assertEquals(sum, integral.getSum(r[0], r[1], r[2], r[2 + 1]));
+			assertEquals(squares, integral.getSquareSum(r[0], r[1], r[2],
+					r[2 + 1]));
+		}
+	}
+
+	/**
+	 * Tests {@link Distribution} of rectangles.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testDistribution() throws Exception {
+		Image image = createImage();
+		IntegralImage integral = new IntegralImage(image);
+		for (int[] r : RECTANGLES) {
+			Distribution expected = new Distribution(image.getRegion(r[0],
+					r[1], r[2], r[2 + 1]));
+			Distribution actual = new Distribution(integral, r[0], r[1],
+					r[2], r[2 + 1]);
+			assertEquals(expected.getAverage(), actual.getAverage(), 0.0f);
+			assertEquals(expected.getDispersion(), actual.getDispersion(),
+					0.0f);
+		}
+	}
+
+	/**
+	 * Tests {@link Projection} of rectangles.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testProjection() throws Exception {
+		Image image = createImage();
+		IntegralImage integral = new IntegralImage(image, false);
+		assertFalse(integral.isSquared());
+		for (int[] r : RECTANGLES) {
+			Image region = image.getRegion(r[0], r[1], r[2], r[2 + 1]);
+			assertTrue(Arrays.equals(Projection.horizontal(region)
+					.getValues(), Projection.horizontal(integral, r[0], r[1],
+					r[2], r[2 + 1]).getValues()));
+			assertTrue(Arrays.equals(Projection.vertical(region)
+					.getValues(), Projection.vertical(integral, r[0], r[1],
+					r[2], r[2 + 1]).getValues()));
+		}
+	}
+
+	/**
+	 * Tests empty rectangles.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testEmpty() throws Exception {
+		final int x = 5;
+		final int y = 7;
+		IntegralImage integral = new IntegralImage(createImage());
+		assertEquals(0, integral.getSum(x, y, x, HEIGHT));
+		assertEquals(0, integral.getSum(x, y, WIDTH, y));
+		assertEquals(0, integral.getSquareSum(0, 0, 0, 0));
+		assertEquals(0, integral.getSum(WIDTH, HEIGHT, WIDTH, HEIGHT));
+		assertEquals(0, Projection.horizontal(integral, x, y, x, HEIGHT)
+				.getValues().length);
+		float[] values = Projection.vertical(integral, x, y, x, HEIGHT)
+				.getValues();
+		assertEquals(HEIGHT - y, values.length);
+		for (float value : values) {
+			assertEquals(0.0f, value, 0.0f);
+		}
+	}
+
+	/**
+	 * Tests that edges out of image are rejected.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testRange() throws Exception {
+		IntegralImage integral = new IntegralImage(createImage());
+		int[][] wrong = {
+			{-1, 0, 1, 1},
+			{0, -1, 1, 1},
+			{0, 0, WIDTH + 1, 1},
+			{0, 0, 1, HEIGHT + 1},
+			{2, 0, 1, 1},
+			{0, 2, 1, 1},
+		};
+		for (int[] r : wrong) {
+			try {
+				integral.getSum(r[0], r[1], r[2], r[2 + 1]);
+				fail();
+			} catch (IllegalArgumentException e) {
+				assertNotNull(e);
+			}
+			try {
+				new Distribution(integral, r[0], r[1], r[2], r[2 + 1]);
+				fail();
+			} catch (IllegalArgumentException e) {
+				assertNotNull(e);
+			}
+		}
+	}
+
+	/**
+	 * Tests that sum of squares is not available without its table.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testNotSquared() throws Exception {
+		IntegralImage integral = new IntegralImage(createImage(), false);
+		try {
+			integral.getSquareSum(0, 0, 1, 1);
+			fail();
+		} catch (IllegalStateException e) {
+			assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Tests sums of image, which total exceeds range of <code>int</code>.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testLargeSum() throws Exception {
+		final int size = 4096;
+		Image image = new Image(size, size);
+		Arrays.fill(image.getData(), (byte) Image.MAX_COLOR);
+		IntegralImage integral = new IntegralImage(image, false);
+		long expected = (long) Image.MAX_COLOR * size * size;
+		assertTrue(expected > Integer.MAX_VALUE);
+		assertEquals(expected, integral.getSum(0, 0, size, size));
+		assertEquals(expected / 2, integral.getSum(0, size / 2, size, size));
+		assertEquals(Image.MAX_COLOR, integral.getSum(size - 1, size - 1,
+				size, size));
+	}
+
+	private static Image createImage() {
+		Random random = new Random(SEED);
+		Image image = new Image(WIDTH, HEIGHT);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				image.setColor(x, y, random.nextInt(Image.MAX_COLOR + 1));
+			}
+		}
+		return image;
+	}
+}
@@ -0,0 +1,102 @@
+package ru.sstu.images.filters;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>BlurFilterTest</code> class is unit test for {@link BlurFilter}
+ * class.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class BlurFilterTest extends TestCase {
+
+	/**
+	 * Sizes of test images, pairs of width and height.
+	 */
+	private static final int[][] SIZES = {
+		{1, 1},
+		{1, 13},
+		{13, 1},
+		{31, 19},
+	};
+
+	/**
+	 * Tested radii, the largest one exceeds image size.
+	 */
+	private static final int[] RADII = {0, 1, 2, 5, 40};
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 29L;
+
+	/**
+	 * Tests filter against naive average of square with replicated edges.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testAverage() throws Exception {
+		Random random = new Random(SEED);
+		for (int[] size : SIZES) {
+			int width = size[0];
+			int height = size[1];
+			Image image = new Image(width, height);
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					image.setColor(x, y, random.nextInt(Image.MAX_COLOR + 1));
+				}
+			}
+			for (int radius : RADII) {
+				Image result = new BlurFilter(radius).filter(image);
+				long area = (long) (2 * radius + 1) * (2 * radius + 1);
+				for (int y = 0; y < height; y++) {
+					for (int x = 0; x < width; x++) {
+						long sum = 0;
+						for (int dy = -radius; dy <= radius; dy++) {
+							for (int dx = -radius; dx <= radius; dx++) {
+								sum += image.getColor(
+										SeparableFilter.clamp(x + dx, width),
+										SeparableFilter.clamp(y + dy, height));
+							}
+						}
+						assertEquals((sum + area / 2) / area,
+								result.getColor(x, y));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests that default filter averages 3x3 square.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testDefault() throws Exception {
+		final int size = 3;
+		final int color = 90;
+		Image image = new Image(size, size);
+		image.setColor(1, 1, color);
+		Image result = new BlurFilter().filter(image);
+		assertEquals(color / (size * size), result.getColor(1, 1));
+		assertEquals(color / (size * size), result.getColor(0, 0));
+	}
+
+	/**
+	 * Tests that negative radius is rejected.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testNegativeRadius() throws Exception {
+		try {
+			new BlurFilter(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertNotNull(e);
+		}
+	}
+}
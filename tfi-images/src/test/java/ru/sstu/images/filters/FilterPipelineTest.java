@@ -0,0 +1,207 @@
+package ru.sstu.images.filters;
+
+import java.awt.image.LookupOp;
+import java.awt.image.ShortLookupTable;
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>FilterPipelineTest</code> class is unit test for
+ * {@link FilterPipeline} class. Each pipeline is compared with the same
+ * filters applied one after another.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class FilterPipelineTest extends TestCase {
+
+	/**
+	 * Width of test image.
+	 */
+	private static final int WIDTH = 53;
+
+	/**
+	 * Height of test image, which is not multiple of band height.
+	 */
+	private static final int HEIGHT = 150;
+
+	/**
+	 * Threshold.
+	 */
+	private static final float THRESHOLD = 0.5f;
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 23L;
+
+	/**
+	 * Tests empty pipeline, which should return a copy.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testEmpty() throws Exception {
+		Image image = createImage();
+		Image result = new FilterPipeline().filter(image);
+		assertNotSame(image, result);
+		assertNotSame(image.getData(), result.getData());
+		assertEquals(image, result);
+		result.setColor(0, 0, image.getColor(0, 0) + 1);
+		assertFalse(image.getColor(0, 0) == result.getColor(0, 0));
+	}
+
+	/**
+	 * Tests fused point operations.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testTables() throws Exception {
+		Image image = createImage();
+		short[] table = createTable();
+		Image expected = new BlackAndWhiteFilter(THRESHOLD).filter(
+				new InverseFilter().filter(lookup(table).filter(image)));
+		assertEquals(expected, new FilterPipeline().lookup(table).inverse()
+				.threshold(THRESHOLD).filter(image));
+	}
+
+	/**
+	 * Tests normalization as the first step.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testNormalizeFirst() throws Exception {
+		Image image = createImage();
+		Image expected = copy(image);
+		expected.normalize();
+		expected = new InverseFilter().filter(new MedianFilter().filter(
+				expected));
+		assertEquals(expected, new FilterPipeline().normalize()
+				.add(new MedianFilter(), 1).inverse().filter(image));
+	}
+
+	/**
+	 * Tests normalization after pending table and as the last step.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testNormalizeLast() throws Exception {
+		Image image = createImage();
+		short[] table = createTable();
+		Image expected = lookup(table).filter(new BlurFilter(2).filter(
+				image));
+		expected.normalize();
+		assertEquals(expected, new FilterPipeline().add(new BlurFilter(2), 2)
+				.lookup(table).normalize().filter(image));
+		expected = new InverseFilter().filter(image);
+		expected.normalize();
+		assertEquals(expected, new FilterPipeline().inverse().normalize()
+				.filter(image));
+	}
+
+	/**
+	 * Tests band filters with halo smaller and larger than band.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testBands() throws Exception {
+		final int[] radii = {0, 1, 5, 63, 64, 70};
+		Image image = createImage();
+		for (int radius : radii) {
+			Image expected = new MedianFilter(radius).filter(
+					new InverseFilter().filter(image));
+			assertEquals(expected, new FilterPipeline().inverse()
+					.add(new MedianFilter(radius), radius).filter(image));
+			expected = new GaussFilter(2 * radius + 1, radius + 1)
+					.filter(image);
+			assertEquals(expected, new FilterPipeline().add(
+					new GaussFilter(2 * radius + 1, radius + 1), radius)
+					.filter(image));
+		}
+	}
+
+	/**
+	 * Tests filter applied to whole image and region as source.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testWholeImage() throws Exception {
+		final int shift = 3;
+		Image image = createImage().getRegion(shift, shift, WIDTH - 1,
+				HEIGHT - shift);
+		Filter filter = new MedianFilter(shift);
+		Image expected = filter.filter(new InverseFilter().filter(image));
+		assertEquals(expected, new FilterPipeline().inverse().add(filter)
+				.filter(image));
+		assertEquals(expected, new FilterPipeline().inverse()
+				.add(filter, shift).filter(image));
+	}
+
+	/**
+	 * Tests that wrong lookup tables are rejected.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testWrongTable() throws Exception {
+		short[][] tables = {
+			new short[Image.MAX_COLOR],
+			createTable(),
+			createTable(),
+		};
+		tables[1][1] = -1;
+		tables[2][2] = Image.MAX_COLOR + 1;
+		for (short[] table : tables) {
+			try {
+				new FilterPipeline().lookup(table);
+				fail();
+			} catch (IllegalArgumentException e) {
+				assertNotNull(e);
+			}
+		}
+	}
+
+	private static void assertEquals(Image expected, Image actual) {
+		assertEquals(expected.getWidth(), actual.getWidth());
+		assertEquals(expected.getHeight(), actual.getHeight());
+		assertTrue(Arrays.deepEquals(expected.getPixels(),
+				actual.getPixels()));
+	}
+
+	private static Filter lookup(short[] table) {
+		return new RasterFilter(new LookupOp(new ShortLookupTable(0, table),
+				null));
+	}
+
+	private static short[] createTable() {
+		short[] table = new short[Image.MAX_COLOR + 1];
+		for (int i = 0; i < table.length; i++) {
+			table[i] = (short) (i * i / Image.MAX_COLOR / 2);
+		}
+		return table;
+	}
+
+	private static Image copy(Image image) {
+		Image copy = new Image(image.getWidth(), image.getHeight());
+		for (int y = 0; y < image.getHeight(); y++) {
+			for (int x = 0; x < image.getWidth(); x++) {
+				copy.setColor(x, y, image.getColor(x, y));
+			}
+		}
+		return copy;
+	}
+
+	private static Image createImage() {
+		final int min = 30;
+		final int range = 170;
+		Random random = new Random(SEED);
+		Image image = new Image(WIDTH, HEIGHT);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				image.setColor(x, y, min + random.nextInt(range));
+			}
+		}
+		return image;
+	}
+}
@@ -0,0 +1,90 @@
+package ru.sstu.images.filters;
+
+import junit.framework.TestCase;
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>GaussFilterTest</code> class is unit test for {@link GaussFilter}
+ * class.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class GaussFilterTest extends TestCase {
+
+	/**
+	 * Tested sizes of kernel.
+	 */
+	private static final int[] SIZES = {1, 3, 5, 11, 31};
+
+	/**
+	 * Tested sigmas.
+	 */
+	private static final float[] SIGMAS = {0.5f, 1.0f, 2.5f, 10.0f};
+
+	/**
+	 * Precision.
+	 */
+	private static final float EPS = 1e-6f;
+
+	/**
+	 * Tests that kernel weights are symmetric Gaussian ones and sum to 1.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testKernel() throws Exception {
+		for (int size : SIZES) {
+			for (float sigma : SIGMAS) {
+				float[] kernel = GaussFilter.getKernel(size, sigma);
+				assertEquals(size, kernel.length);
+				float sum = 0.0f;
+				int center = size / 2;
+				for (int i = 0; i < size; i++) {
+					sum += kernel[i];
+					assertEquals(kernel[i], kernel[size - 1 - i], 0.0f);
+					int x = i - center;
+					assertEquals(Math.exp(-x * x / (2.0 * sigma * sigma)),
+							kernel[i] / kernel[center], EPS);
+				}
+				assertEquals(1.0f, sum, EPS);
+			}
+		}
+	}
+
+	/**
+	 * Tests that uniform image is not changed.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testUniform() throws Exception {
+		final int width = 9;
+		final int height = 7;
+		final int color = 201;
+		Image image = new Image(width, height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setColor(x, y, color);
+			}
+		}
+		Image result = new GaussFilter(2 * 2 + 1, 2.0f).filter(image);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(color, result.getColor(x, y));
+			}
+		}
+	}
+
+	/**
+	 * Tests that even size is rejected.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testEvenSize() throws Exception {
+		try {
+			new GaussFilter(2, 1.0f);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertNotNull(e);
+		}
+	}
+}
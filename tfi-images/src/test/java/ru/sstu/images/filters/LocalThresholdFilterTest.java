@@ -0,0 +1,182 @@
+package ru.sstu.images.filters;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>LocalThresholdFilterTest</code> class is unit test for
+ * {@link SauvolaFilter} and {@link BradleyFilter} classes.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class LocalThresholdFilterTest extends TestCase {
+
+	/**
+	 * Width of test image.
+	 */
+	private static final int WIDTH = 41;
+
+	/**
+	 * Height of test image.
+	 */
+	private static final int HEIGHT = 29;
+
+	/**
+	 * Tested radii, the largest ones clip every window.
+	 */
+	private static final int[] RADII = {0, 1, 3, 10, 50};
+
+	/**
+	 * Sauvola sensitivity.
+	 */
+	private static final float K = 0.3f;
+
+	/**
+	 * Bradley part of mean.
+	 */
+	private static final float T = 0.15f;
+
+	/**
+	 * Range of standard deviation in Sauvola formula.
+	 */
+	private static final double RANGE = 128.0;
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 17L;
+
+	/**
+	 * Tests {@link SauvolaFilter} against brute force window statistics.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testSauvola() throws Exception {
+		Image image = createImage();
+		for (int radius : RADII) {
+			Image result = new SauvolaFilter(radius, K).filter(image);
+			for (int y = 0; y < HEIGHT; y++) {
+				for (int x = 0; x < WIDTH; x++) {
+					long[] window = window(image, x, y, radius);
+					double mean = (double) window[0] / window[2];
+					double dispersion = Math.max(0.0,
+							(double) window[1] / window[2] - mean * mean);
+					double threshold = mean * (1 + K
+							* (Math.sqrt(dispersion) / RANGE - 1));
+					assertColor(image.getColor(x, y) > threshold, result,
+							x, y);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests {@link BradleyFilter} against brute force window statistics.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testBradley() throws Exception {
+		Image image = createImage();
+		double factor = 1 - T;
+		for (int radius : RADII) {
+			Image result = new BradleyFilter(radius, T).filter(image);
+			for (int y = 0; y < HEIGHT; y++) {
+				for (int x = 0; x < WIDTH; x++) {
+					long[] window = window(image, x, y, radius);
+					assertColor((double) image.getColor(x, y) * window[2]
+							> window[0] * factor, result, x, y);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests that pixel equal to threshold is black, while
+	 * {@link BlackAndWhiteFilter} makes it white.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testThresholdConvention() throws Exception {
+		final int color = 102;
+		final int size = 5;
+		Image image = new Image(size, size);
+		for (int y = 0; y < size; y++) {
+			for (int x = 0; x < size; x++) {
+				image.setColor(x, y, color);
+			}
+		}
+		Image bradley = new BradleyFilter(1, 0.0f).filter(image);
+		Image sauvola = new SauvolaFilter(1, 0.0f).filter(image);
+		Image global = new BlackAndWhiteFilter((float) color
+				/ Image.MAX_COLOR).filter(image);
+		for (int y = 0; y < size; y++) {
+			for (int x = 0; x < size; x++) {
+				assertEquals(0, bradley.getColor(x, y));
+				assertEquals(0, sauvola.getColor(x, y));
+				assertEquals(Image.MAX_COLOR, global.getColor(x, y));
+			}
+		}
+	}
+
+	/**
+	 * Tests that negative radius is rejected.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testNegativeRadius() throws Exception {
+		try {
+			new SauvolaFilter(-1, K);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Calculates statistics of window clipped by image edges.
+	 *
+	 * @param image  image
+	 * @param x      x of window center
+	 * @param y      y of window center
+	 * @param radius radius of window
+	 * @return sum of colors, sum of squared colors and count of pixels
+	 */
+	private static long[] window(Image image, int x, int y, int radius) {
+		long[] window = new long[2 + 1];
+		for (int j = Math.max(0, y - radius);
+				j <= Math.min(HEIGHT - 1, y + radius); j++) {
+			for (int i = Math.max(0, x - radius);
+					i <= Math.min(WIDTH - 1, x + radius); i++) {
+				int value = image.getColor(i, j);
+				window[0] += value;
+				window[1] += value * value;
+				window[2]++;
+			}
+		}
+		return window;
+	}
+
+	private static void assertColor(boolean white, Image result, int x,
+			int y) {
+		assertEquals(white ? Image.MAX_COLOR : 0, result.getColor(x, y));
+	}
+
+	private static Image createImage() {
+		final int background = 150;
+		final int ink = 70;
+		final int noise = 60;
+		final int period = 7;
+		Random random = new Random(SEED);
+		Image image = new Image(WIDTH, HEIGHT);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				int base = (x + 2 * y) % period < 2 ? ink : background;
+				image.setColor(x, y, base + x + random.nextInt(noise));
+			}
+		}
+		return image;
+	}
+}
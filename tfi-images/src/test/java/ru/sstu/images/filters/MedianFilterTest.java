@@ -0,0 +1,154 @@
+package ru.sstu.images.filters;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>MedianFilterTest</code> class is unit test for {@link MedianFilter}
+ * class.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class MedianFilterTest extends TestCase {
+
+	/**
+	 * Maximal tested radius.
+	 */
+	private static final int MAX_RADIUS = 4;
+
+	/**
+	 * Sizes of test images, pairs of width and height.
+	 */
+	private static final int[][] SIZES = {
+		{1, 1},
+		{1, 17},
+		{17, 1},
+		{3, 5},
+		{15, 11},
+		{37, 23},
+	};
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 5L;
+
+	/**
+	 * Tests filter on noise, median stays in a few fine segments.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testNoise() throws Exception {
+		Random random = new Random(SEED);
+		for (int[] size : SIZES) {
+			Image image = new Image(size[0], size[1]);
+			for (int y = 0; y < size[1]; y++) {
+				for (int x = 0; x < size[0]; x++) {
+					image.setColor(x, y, random.nextInt(Image.MAX_COLOR + 1));
+				}
+			}
+			assertMedian(image);
+		}
+	}
+
+	/**
+	 * Tests filter on blocks of different brightness, so median jumps
+	 * between fine segments, which are either replayed or rebuilt.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testBlocks() throws Exception {
+		final int maxBlock = 12;
+		final int noise = 8;
+		Random random = new Random(SEED);
+		for (int[] size : SIZES) {
+			Image image = new Image(size[0], size[1]);
+			for (int y = 0; y < size[1]; y++) {
+				int x = 0;
+				while (x < size[0]) {
+					int block = 1 + random.nextInt(maxBlock);
+					int base = random.nextInt(Image.MAX_COLOR + 1 - noise);
+					for (int i = x; i < Math.min(x + block, size[0]); i++) {
+						image.setColor(i, y, base + random.nextInt(noise));
+					}
+					x += block;
+				}
+			}
+			assertMedian(image);
+		}
+	}
+
+	/**
+	 * Tests filter on region of another image.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testRegion() throws Exception {
+		final int width = 41;
+		final int height = 29;
+		Random random = new Random(SEED);
+		Image image = new Image(width, height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setColor(x, y, random.nextInt(Image.MAX_COLOR + 1));
+			}
+		}
+		assertMedian(image.getRegion(2, 1, width - 2, height - 2));
+	}
+
+	/**
+	 * Tests that negative radius is rejected.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testNegativeRadius() throws Exception {
+		try {
+			new MedianFilter(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertNotNull(e);
+		}
+	}
+
+	private static void assertMedian(Image image) {
+		int[][] before = image.getPixels();
+		for (int radius = 0; radius <= MAX_RADIUS; radius++) {
+			Image result = new MedianFilter(radius).filter(image);
+			assertNotSame(image, result);
+			assertNotSame(image.getData(), result.getData());
+			assertEquals(image.getWidth(), result.getWidth());
+			assertEquals(image.getHeight(), result.getHeight());
+			assertTrue(Arrays.deepEquals(before, image.getPixels()));
+			for (int y = 0; y < image.getHeight(); y++) {
+				for (int x = 0; x < image.getWidth(); x++) {
+					assertEquals(median(before, x, y, radius),
+							result.getColor(x, y));
+				}
+			}
+		}
+	}
+
+	private static int median(int[][] pixels, int x, int y, int radius) {
+		int width = pixels.length;
+		int height = pixels[0].length;
+		int size = 2 * radius + 1;
+		int[] values = new int[size * size];
+		int k = 0;
+		for (int dy = -radius; dy <= radius; dy++) {
+			for (int dx = -radius; dx <= radius; dx++) {
+				values[k++] = pixels[clamp(x + dx, width)][clamp(y + dy,
+						height)];
+			}
+		}
+		Arrays.sort(values);
+		return values[values.length / 2];
+	}
+
+	private static int clamp(int index, int size) {
+		return Math.max(0, Math.min(index, size - 1));
+	}
+}
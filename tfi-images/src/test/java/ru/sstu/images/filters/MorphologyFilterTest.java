@@ -0,0 +1,185 @@
+package ru.sstu.images.filters;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import ru.sstu.images.analysis.BinaryImage;
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>MorphologyFilterTest</code> class is unit test for
+ * {@link MorphologyFilter} class and its subclasses.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class MorphologyFilterTest extends TestCase {
+
+	/**
+	 * Sizes of test images, pairs of width and height.
+	 */
+	private static final int[][] SIZES = {
+		{1, 1},
+		{70, 23},
+		{130, 17},
+	};
+
+	/**
+	 * Tested rectangles, pairs of horizontal and vertical radii. Heights of
+	 * elements do not divide heights of images, some widths exceed word of
+	 * binary image.
+	 */
+	private static final int[][] RADII = {
+		{0, 0},
+		{1, 1},
+		{0, 3},
+		{2, 0},
+		{33, 2},
+		{40, 5},
+		{3, 12},
+		{70, 30},
+	};
+
+	/**
+	 * Probability of white pixel in binary test images.
+	 */
+	private static final double DENSITY = 0.4;
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 11L;
+
+	/**
+	 * Tests grey scale filters against naive implementation.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testGrey() throws Exception {
+		Random random = new Random(SEED);
+		for (int[] size : SIZES) {
+			Image image = new Image(size[0], size[1]);
+			for (int y = 0; y < size[1]; y++) {
+				for (int x = 0; x < size[0]; x++) {
+					image.setColor(x, y, random.nextInt(Image.MAX_COLOR + 1));
+				}
+			}
+			assertFilters(image);
+		}
+	}
+
+	/**
+	 * Tests filters on region of another image.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testRegion() throws Exception {
+		final int width = 90;
+		final int height = 31;
+		Random random = new Random(SEED);
+		Image image = new Image(width, height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setColor(x, y, random.nextInt(Image.MAX_COLOR + 1));
+			}
+		}
+		assertFilters(image.getRegion(2, 1, width - 1, height - 2));
+	}
+
+	/**
+	 * Tests that grey scale filters give the same result as
+	 * {@link BinaryImage} methods for black and white images.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testBinary() throws Exception {
+		Random random = new Random(SEED);
+		for (int[] size : SIZES) {
+			BinaryImage binary = new BinaryImage(size[0], size[1]);
+			for (int y = 0; y < size[1]; y++) {
+				for (int x = 0; x < size[0]; x++) {
+					binary.setWhite(x, y, random.nextDouble() < DENSITY);
+				}
+			}
+			Image image = binary.toImage();
+			for (int[] radii : RADII) {
+				int rx = radii[0];
+				int ry = radii[1];
+				assertEquals(naive(image, rx, ry, true),
+						binary.dilate(rx, ry).toImage());
+				assertEquals(naive(image, rx, ry, false),
+						binary.erode(rx, ry).toImage());
+				assertEquals(new DilateFilter(rx, ry).filter(image),
+						binary.dilate(rx, ry).toImage());
+				assertEquals(new ErodeFilter(rx, ry).filter(image),
+						binary.erode(rx, ry).toImage());
+				assertEquals(new OpenFilter(rx, ry).filter(image),
+						binary.open(rx, ry).toImage());
+				assertEquals(new CloseFilter(rx, ry).filter(image),
+						binary.close(rx, ry).toImage());
+			}
+		}
+	}
+
+	/**
+	 * Tests that negative radius is rejected.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testNegativeRadius() throws Exception {
+		try {
+			new DilateFilter(0, -1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertNotNull(e);
+		}
+	}
+
+	private static void assertFilters(Image image) {
+		for (int[] radii : RADII) {
+			int rx = radii[0];
+			int ry = radii[1];
+			Image dilated = naive(image, rx, ry, true);
+			Image eroded = naive(image, rx, ry, false);
+			assertEquals(dilated, new DilateFilter(rx, ry).filter(image));
+			assertEquals(eroded, new ErodeFilter(rx, ry).filter(image));
+			assertEquals(naive(eroded, rx, ry, true),
+					new OpenFilter(rx, ry).filter(image));
+			assertEquals(naive(dilated, rx, ry, false),
+					new CloseFilter(rx, ry).filter(image));
+		}
+		assertEquals(new DilateFilter(1, 1).filter(image),
+				new DilateFilter(1).filter(image));
+	}
+
+	private static void assertEquals(Image expected, Image actual) {
+		assertEquals(expected.getWidth(), actual.getWidth());
+		assertEquals(expected.getHeight(), actual.getHeight());
+		assertTrue(Arrays.deepEquals(expected.getPixels(),
+				actual.getPixels()));
+	}
+
+	private static Image naive(Image image, int radiusX, int radiusY,
+			boolean dilation) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		Image result = new Image(width, height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int min = Image.MAX_COLOR;
+				int max = 0;
+				for (int j = Math.max(y - radiusY, 0);
+						j <= Math.min(y + radiusY, height - 1); j++) {
+					for (int i = Math.max(x - radiusX, 0);
+							i <= Math.min(x + radiusX, width - 1); i++) {
+						min = Math.min(min, image.getColor(i, j));
+						max = Math.max(max, image.getColor(i, j));
+					}
+				}
+				result.setColor(x, y, dilation ? max : min);
+			}
+		}
+		return result;
+	}
+}
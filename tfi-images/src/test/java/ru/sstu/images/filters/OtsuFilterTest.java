@@ -0,0 +1,120 @@
+package ru.sstu.images.filters;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>OtsuFilterTest</code> class is unit test for {@link OtsuFilter}
+ * class.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class OtsuFilterTest extends TestCase {
+
+	/**
+	 * Width of test image.
+	 */
+	private static final int WIDTH = 40;
+
+	/**
+	 * Height of test image.
+	 */
+	private static final int HEIGHT = 25;
+
+	/**
+	 * Darkest color of dark mode.
+	 */
+	private static final int DARK = 40;
+
+	/**
+	 * Darkest color of light mode.
+	 */
+	private static final int LIGHT = 180;
+
+	/**
+	 * Width of each mode.
+	 */
+	private static final int SPREAD = 21;
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 19L;
+
+	/**
+	 * Tests {@link OtsuFilter#getLevel(Image)} on bimodal histogram. All
+	 * levels between modes separate them equally well, the first one is
+	 * chosen.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testBimodalLevel() throws Exception {
+		assertEquals(DARK + SPREAD - 1, OtsuFilter.getLevel(createImage()));
+	}
+
+	/**
+	 * Tests that pixels not brighter than level are black, which is the
+	 * same as {@link BlackAndWhiteFilter} with threshold next to level.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testFilter() throws Exception {
+		Image image = createImage();
+		int level = OtsuFilter.getLevel(image);
+		Image result = new OtsuFilter().filter(image);
+		Image global = new BlackAndWhiteFilter((float) (level + 1)
+				/ Image.MAX_COLOR).filter(image);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				int expected = image.getColor(x, y) > level
+						? Image.MAX_COLOR : 0;
+				assertEquals(expected, result.getColor(x, y));
+				assertEquals(expected, global.getColor(x, y));
+			}
+		}
+	}
+
+	/**
+	 * Tests uniform image, which histogram cannot be split, so level is
+	 * <code>0</code>.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testUniform() throws Exception {
+		final int color = 77;
+		Image image = new Image(WIDTH, HEIGHT);
+		assertEquals(0, OtsuFilter.getLevel(image));
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				image.setColor(x, y, color);
+			}
+		}
+		assertEquals(0, OtsuFilter.getLevel(image));
+		Image result = new OtsuFilter().filter(image);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				assertEquals(Image.MAX_COLOR, result.getColor(x, y));
+			}
+		}
+	}
+
+	private static Image createImage() {
+		Random random = new Random(SEED);
+		Image image = new Image(WIDTH, HEIGHT);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				int base = random.nextBoolean() ? DARK : LIGHT;
+				image.setColor(x, y, base + random.nextInt(SPREAD));
+			}
+		}
+		// Both modes are fully covered
+		for (int i = 0; i < SPREAD; i++) {
+			image.setColor(i, 0, DARK + i);
+			image.setColor(i, 1, LIGHT + i);
+		}
+		return image;
+	}
+}
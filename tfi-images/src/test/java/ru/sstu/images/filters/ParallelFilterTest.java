@@ -0,0 +1,154 @@
+package ru.sstu.images.filters;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import junit.framework.TestCase;
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>ParallelFilterTest</code> class is unit test for
+ * {@link ParallelFilter} class. Results are compared with results of
+ * wrapped filters applied to whole image.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class ParallelFilterTest extends TestCase {
+
+	/**
+	 * Count of threads.
+	 */
+	private static final int THREADS = 4;
+
+	/**
+	 * Width of test images.
+	 */
+	private static final int WIDTH = 37;
+
+	/**
+	 * Heights of test images: not divisible by band count, smaller than
+	 * minimal band and a few minimal bands.
+	 */
+	private static final int[] HEIGHTS = {1, 10, 49, 101};
+
+	/**
+	 * Tested counts of bands.
+	 */
+	private static final int[] BANDS = {1, 3, 7};
+
+	/**
+	 * Tested radii of filters.
+	 */
+	private static final int[] RADII = {0, 1, 3, 20};
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 37L;
+
+	private ExecutorService executor;
+
+	@Override
+	protected void setUp() throws Exception {
+		executor = Executors.newFixedThreadPool(THREADS);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Tests parallel {@link MedianFilter}.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testMedian() throws Exception {
+		for (int radius : RADII) {
+			assertParallel(new MedianFilter(radius), radius);
+		}
+	}
+
+	/**
+	 * Tests parallel {@link GaussFilter}.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testGauss() throws Exception {
+		for (int radius : RADII) {
+			assertParallel(new GaussFilter(2 * radius + 1, radius + 1),
+					radius);
+		}
+	}
+
+	/**
+	 * Tests that exception of the filter is propagated.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testException() throws Exception {
+		final RuntimeException exception = new UnsupportedOperationException();
+		Filter failing = new Filter() {
+			@Override
+			public Image filter(Image image) {
+				throw exception;
+			}
+		};
+		try {
+			new ParallelFilter(failing, 1, executor, 2 + 1).filter(
+					createImage(HEIGHTS[HEIGHTS.length - 1]));
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertSame(exception, e);
+		}
+	}
+
+	/**
+	 * Tests that wrong parameters are rejected.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testWrongParameters() throws Exception {
+		try {
+			new ParallelFilter(new MedianFilter(), -1, executor, 1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertNotNull(e);
+		}
+		try {
+			new ParallelFilter(new MedianFilter(), 1, executor, 0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertNotNull(e);
+		}
+	}
+
+	private void assertParallel(Filter filter, int halo) {
+		for (int height : HEIGHTS) {
+			Image image = createImage(height);
+			int[][] expected = filter.filter(image).getPixels();
+			for (int bands : BANDS) {
+				Image result = new ParallelFilter(filter, halo, executor,
+						bands).filter(image);
+				assertTrue(Arrays.deepEquals(expected, result.getPixels()));
+			}
+			Image result = new ParallelFilter(filter, halo, executor)
+					.filter(image);
+			assertTrue(Arrays.deepEquals(expected, result.getPixels()));
+		}
+	}
+
+	private static Image createImage(int height) {
+		Random random = new Random(SEED + height);
+		Image image = new Image(WIDTH, height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				image.setColor(x, y, random.nextInt(Image.MAX_COLOR + 1));
+			}
+		}
+		return image;
+	}
+}
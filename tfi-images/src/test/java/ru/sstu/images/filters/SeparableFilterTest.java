@@ -0,0 +1,91 @@
+package ru.sstu.images.filters;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import ru.sstu.images.analysis.Image;
+
+/**
+ * <code>SeparableFilterTest</code> class is unit test for
+ * {@link SeparableFilter} class.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class SeparableFilterTest extends TestCase {
+
+	/**
+	 * Width of test image.
+	 */
+	private static final int WIDTH = 17;
+
+	/**
+	 * Height of test image.
+	 */
+	private static final int HEIGHT = 11;
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 31L;
+
+	/**
+	 * Tests that unit kernel gives the same image.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testIdentity() throws Exception {
+		Image image = createImage();
+		Image result = new SeparableFilter(new float[] {1}).filter(image);
+		assertNotSame(image.getData(), result.getData());
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				assertEquals(image.getColor(x, y), result.getColor(x, y));
+			}
+		}
+	}
+
+	/**
+	 * Tests shift kernels, which pick neighbour pixels, with edges
+	 * replicated.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testShift() throws Exception {
+		Image image = createImage();
+		Image result = new SeparableFilter(new float[] {0, 0, 1},
+				new float[] {1, 0, 0}).filter(image);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				assertEquals(image.getColor(SeparableFilter.clamp(x + 1,
+						WIDTH), SeparableFilter.clamp(y - 1, HEIGHT)),
+						result.getColor(x, y));
+			}
+		}
+	}
+
+	/**
+	 * Tests that even kernel size is rejected.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testEvenSize() throws Exception {
+		try {
+			new SeparableFilter(new float[] {1}, new float[] {1, 1});
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertNotNull(e);
+		}
+	}
+
+	private static Image createImage() {
+		Random random = new Random(SEED);
+		Image image = new Image(WIDTH, HEIGHT);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				image.setColor(x, y, random.nextInt(Image.MAX_COLOR + 1));
+			}
+		}
+		return image;
+	}
+}
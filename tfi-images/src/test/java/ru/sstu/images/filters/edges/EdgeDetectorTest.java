@@ -0,0 +1,132 @@
+package ru.sstu.images.filters.edges;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import ru.sstu.images.analysis.Image;
+import ru.sstu.images.filters.AddFilter;
+
+/**
+ * <code>EdgeDetectorTest</code> class is unit test for {@link EdgeDetector}
+ * class.
+ *
+ * @author Denis_Murashev
+ * @since Images 1.0
+ */
+public class EdgeDetectorTest extends TestCase {
+
+	/**
+	 * Width of test image.
+	 */
+	private static final int WIDTH = 97;
+
+	/**
+	 * Height of test image.
+	 */
+	private static final int HEIGHT = 71;
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 4L;
+
+	/**
+	 * Tests that {@link SobelFilter} is the same as composition of its
+	 * vertical and horizontal filters.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testSobel() throws Exception {
+		assertComposition(new SobelFilter());
+	}
+
+	/**
+	 * Tests that {@link PrewittFilter} is the same as composition of its
+	 * vertical and horizontal filters.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testPrewitt() throws Exception {
+		assertComposition(new PrewittFilter());
+	}
+
+	/**
+	 * Tests that {@link LineFilter} is the same as composition of its
+	 * vertical and horizontal filters.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testLine() throws Exception {
+		assertComposition(new LineFilter());
+	}
+
+	/**
+	 * Tests gradient magnitude calculation.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testMagnitude() throws Exception {
+		final int size = 5;
+		final int stepX = 10;
+		final int stepY = 5;
+		Image image = new Image(size, size);
+		for (int y = 0; y < size; y++) {
+			for (int x = 0; x < size; x++) {
+				image.setColor(x, y, x * stepX + y * stepY);
+			}
+		}
+		EdgeDetector detector = new SobelFilter(true);
+		assertTrue(detector.isMagnitude());
+		assertFalse(new SobelFilter().isMagnitude());
+		Image result = detector.filter(image);
+		// Sobel responses are 8 * step, magnitude is truncated
+		final int gx = 8 * stepX;
+		final int gy = 8 * stepY;
+		int expected = (int) Math.sqrt(gx * gx + gy * gy);
+		for (int y = 1; y < size - 1; y++) {
+			for (int x = 1; x < size - 1; x++) {
+				assertEquals(expected, result.getColor(x, y));
+			}
+		}
+		for (int i = 0; i < size; i++) {
+			assertEquals(0, result.getColor(i, 0));
+			assertEquals(0, result.getColor(0, i));
+			assertEquals(0, result.getColor(i, size - 1));
+			assertEquals(0, result.getColor(size - 1, i));
+		}
+	}
+
+	private static void assertComposition(EdgeDetector detector) {
+		Image image = createImage();
+		assertEquals(pixels(new AddFilter(detector.vertical(),
+				detector.horizontal()).filter(image)),
+				pixels(detector.filter(image)));
+		Image region = image.getRegion(2, 1, WIDTH - 1, HEIGHT - 2);
+		assertEquals(pixels(new AddFilter(detector.vertical(),
+				detector.horizontal()).filter(region)),
+				pixels(detector.filter(region)));
+	}
+
+	private static String pixels(Image image) {
+		return Arrays.deepToString(image.getPixels());
+	}
+
+	private static Image createImage() {
+		final int dark = 60;
+		final int light = 200;
+		final int slopeX = 7;
+		final int slopeY = 3;
+		Random random = new Random(SEED);
+		Image image = new Image(WIDTH, HEIGHT);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				int band = (x * slopeX + y * slopeY) % (Image.MAX_COLOR + 1);
+				boolean isDark = band < (Image.MAX_COLOR + 1) / 2;
+				image.setColor(x, y, isDark ? random.nextInt(dark)
+						: light + random.nextInt(Image.MAX_COLOR + 1 - light));
+			}
+		}
+		return image;
+	}
+}
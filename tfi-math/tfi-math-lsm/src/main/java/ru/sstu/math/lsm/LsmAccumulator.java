@@ -0,0 +1,255 @@
+package ru.sstu.math.lsm;
+
+import java.util.Arrays;
+
+import org.apache.commons.math.linear.Array2DRowRealMatrix;
+import org.apache.commons.math.linear.LUDecompositionImpl;
+import org.apache.commons.math.linear.SingularMatrixException;
+
+/**
+ * <code>LsmAccumulator</code> class accumulates normal equations of Least
+ * Square Method point by point, so points need not be kept in memory.
+ * Each point is given by values of basis functions in it, so every basis
+ * function is evaluated once per point. Accumulators filled with different
+ * parts of data (for instance in different threads) can be merged, and
+ * system can be solved at any time.
+ * Important! The class is not thread safe!
+ *
+ * @author Denis_Murashev
+ * @since Math 1.1
+ */
+public class LsmAccumulator {
+
+	/**
+	 * Relative threshold of Cholesky pivots.
+	 */
+	private static final double PIVOT_THRESHOLD = 1e-14;
+
+	/**
+	 * Count of basis functions.
+	 */
+	private final int size;
+
+	/**
+	 * Upper triangle of Gram matrix stored row by row in square array.
+	 */
+	private final double[] gram;
+
+	/**
+	 * Right hand side of normal equations.
+	 */
+	private final double[] rhs;
+
+	/**
+	 * Count of accumulated points.
+	 */
+	private long count;
+
+	/**
+	 * Creates empty accumulator.
+	 *
+	 * @param size count of basis functions
+	 */
+	public LsmAccumulator(int size) {
+		if (size < 1) {
+			throw new IllegalArgumentException();
+		}
+		this.size = size;
+		gram = new double[size * size];
+		rhs = new double[size];
+	}
+
+	/**
+	 * @return count of basis functions
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return count of accumulated points
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Adds point to normal equations.
+	 *
+	 * @param values values of basis functions in the point
+	 * @param value  value of fitted function in the point
+	 */
+	public void add(double[] values, double value) {
+		add(values, value, 1.0);
+	}
+
+	/**
+	 * Adds point with given weight to normal equations. Weight is usually
+	 * inverted variance of the value.
+	 *
+	 * @param values values of basis functions in the point
+	 * @param value  value of fitted function in the point
+	 * @param weight non-negative weight of the point
+	 */
+	public void add(double[] values, double value, double weight) {
+		if (values.length != size) {
+			throw new IllegalArgumentException();
+		}
+		add(values, 0, value, weight);
+	}
+
+	/**
+	 * Adds point with given weight to normal equations.
+	 *
+	 * @param values array with values of basis functions
+	 * @param offset offset of the point values in array
+	 * @param value  value of fitted function in the point
+	 * @param weight non-negative weight of the point
+	 */
+	void add(double[] values, int offset, double value, double weight) {
+		if (weight < 0.0) {
+			throw new IllegalArgumentException();
+		}
+		for (int k = 0; k < size; k++) {
+			double vk = weight * values[offset + k];
+			int row = k * size;
+			for (int i = k; i < size; i++) {
+				gram[row + i] += vk * values[offset + i];
+			}
+			rhs[k] += vk * value;
+		}
+		count++;
+	}
+
+	/**
+	 * Adds all points accumulated by other accumulator.
+	 *
+	 * @param other accumulator with the same count of basis functions
+	 */
+	public void merge(LsmAccumulator other) {
+		if (other.size != size) {
+			throw new IllegalArgumentException();
+		}
+		for (int i = 0; i < gram.length; i++) {
+			gram[i] += other.gram[i];
+		}
+		for (int i = 0; i < size; i++) {
+			rhs[i] += other.rhs[i];
+		}
+		count += other.count;
+	}
+
+	/**
+	 * Removes all accumulated points.
+	 */
+	public void clear() {
+		Arrays.fill(gram, 0.0);
+		Arrays.fill(rhs, 0.0);
+		count = 0;
+	}
+
+	/**
+	 * Solves normal equations for points accumulated so far using LU
+	 * decomposition. Accumulator is not changed, so more points can be
+	 * added after that.
+	 *
+	 * @return coefficients
+	 */
+	public double[] solve() {
+		return solve(LsmDecomposition.LU);
+	}
+
+	/**
+	 * Solves normal equations for points accumulated so far. Accumulator
+	 * is not changed, so more points can be added after that.
+	 * {@link LsmDecomposition#QR} is not supported, because points are not
+	 * stored.
+	 *
+	 * @param decomposition LU or Cholesky decomposition
+	 * @return coefficients
+	 */
+	public double[] solve(LsmDecomposition decomposition) {
+		switch (decomposition) {
+		case LU:
+			return new LUDecompositionImpl(new Array2DRowRealMatrix(
+					getMatrix(), false)).getSolver().solve(rhs);
+		case CHOLESKY:
+			return solveCholesky();
+		default:
+			throw new IllegalArgumentException(decomposition.toString());
+		}
+	}
+
+	/**
+	 * Solves normal equations using Cholesky decomposition
+	 * <code>G = U<sup>T</sup> U</code>. Factor <code>U</code> replaces upper
+	 * triangle of the copy of Gram matrix, all loops go along rows.
+	 * Singular matrix is detected by small pivot.
+	 *
+	 * @return coefficients
+	 */
+	private double[] solveCholesky() {
+		double[] u = gram.clone();
+		for (int k = 0; k < size; k++) {
+			int row = k * size;
+			double pivot = u[row + k];
+			if (pivot <= PIVOT_THRESHOLD * gram[row + k] || pivot <= 0.0) {
+				throw new SingularMatrixException();
+			}
+			pivot = Math.sqrt(pivot);
+			u[row + k] = pivot;
+			for (int i = k + 1; i < size; i++) {
+				u[row + i] /= pivot;
+			}
+			for (int i = k + 1; i < size; i++) {
+				double factor = u[row + i];
+				int target = i * size;
+				for (int j = i; j < size; j++) {
+					u[target + j] -= factor * u[row + j];
+				}
+			}
+		}
+		return substitute(u);
+	}
+
+	/**
+	 * Solves <code>U<sup>T</sup> U x = b</code> by forward and back
+	 * substitutions.
+	 *
+	 * @param u upper triangular factor
+	 * @return solution
+	 */
+	private double[] substitute(double[] u) {
+		double[] x = rhs.clone();
+		for (int k = 0; k < size; k++) {
+			int row = k * size;
+			x[k] /= u[row + k];
+			for (int i = k + 1; i < size; i++) {
+				x[i] -= u[row + i] * x[k];
+			}
+		}
+		for (int k = size - 1; k >= 0; k--) {
+			int row = k * size;
+			double sum = x[k];
+			for (int i = k + 1; i < size; i++) {
+				sum -= u[row + i] * x[i];
+			}
+			x[k] = sum / u[row + k];
+		}
+		return x;
+	}
+
+	/**
+	 * @return Gram matrix with both triangles filled
+	 */
+	protected double[][] getMatrix() {
+		double[][] a = new double[size][size];
+		for (int k = 0; k < size; k++) {
+			for (int i = k; i < size; i++) {
+				a[k][i] = gram[k * size + i];
+				a[i][k] = a[k][i];
+			}
+		}
+		return a;
+	}
+}
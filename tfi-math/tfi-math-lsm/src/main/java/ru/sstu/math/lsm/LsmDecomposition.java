@@ -0,0 +1,30 @@
+package ru.sstu.math.lsm;
+
+/**
+ * <code>LsmDecomposition</code> enumeration represents methods of solving
+ * Least Square Method problem.
+ *
+ * @author Denis_Murashev
+ * @since Math 1.1
+ */
+public enum LsmDecomposition {
+
+	/**
+	 * LU decomposition of normal equations matrix.
+	 */
+	LU,
+
+	/**
+	 * Cholesky decomposition of normal equations matrix. It is about twice
+	 * faster than LU, but requires well-conditioned basis.
+	 */
+	CHOLESKY,
+
+	/**
+	 * Householder QR decomposition of design matrix. Normal equations are
+	 * not formed, so condition number is not squared and result is much
+	 * more accurate for ill-conditioned bases (high degree polynomials for
+	 * instance). All points are kept in memory.
+	 */
+	QR,
+}
@@ -0,0 +1,69 @@
+package ru.sstu.math.lsm;
+
+/**
+ * <code>LsmLoss</code> enumeration represents robust loss functions used by
+ * {@link RobustLsmSolver}. Each loss defines weight of point by its residual
+ * scaled by tuning constant and robust estimation of residuals deviation.
+ *
+ * @author Denis_Murashev
+ * @since Math 1.1
+ */
+public enum LsmLoss {
+
+	/**
+	 * Huber loss. It is quadratic for small residuals and linear for large
+	 * ones, so outliers have reduced but non-zero influence.
+	 */
+	HUBER {
+
+		@Override
+		public double getTuning() {
+			final double tuning = 1.345;
+			return tuning;
+		}
+
+		@Override
+		public double weight(double u) {
+			double a = Math.abs(u);
+			return a <= 1.0 ? 1.0 : 1.0 / a;
+		}
+	},
+
+	/**
+	 * Tukey biweight loss. Points with large residuals get zero weight, so
+	 * gross outliers are rejected completely.
+	 */
+	TUKEY {
+
+		@Override
+		public double getTuning() {
+			final double tuning = 4.685;
+			return tuning;
+		}
+
+		@Override
+		public double weight(double u) {
+			if (Math.abs(u) >= 1.0) {
+				return 0.0;
+			}
+			double t = 1.0 - u * u;
+			return t * t;
+		}
+	};
+
+	/**
+	 * Provides default tuning constant, which gives 95% efficiency for
+	 * normally distributed errors.
+	 *
+	 * @return tuning constant
+	 */
+	public abstract double getTuning();
+
+	/**
+	 * Calculates weight of point.
+	 *
+	 * @param u residual divided by tuning constant and deviation
+	 * @return weight in [0, 1]
+	 */
+	public abstract double weight(double u);
+}
@@ -1,46 +1,227 @@
 package ru.sstu.math.lsm;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 import org.apache.commons.math.MathException;
 import org.apache.commons.math.analysis.MultivariateRealFunction;
 import org.apache.commons.math.linear.Array2DRowRealMatrix;
-import org.apache.commons.math.linear.LUDecomposition;
-import org.apache.commons.math.linear.LUDecompositionImpl;
-import org.apache.commons.math.linear.RealMatrix;
+import org.apache.commons.math.linear.QRDecompositionImpl;
 import org.apache.commons.math.optimization.RealPointValuePair;
 
 /**
  * <code>MultivariateLsmSolverImpl</code> class is default implementation of
- * {@link MultivariateLsmSolver} interface.
+ * {@link MultivariateLsmSolver} interface. Each basis function is evaluated
+ * once per point. If {@link ExecutorService} is given points are divided
+ * into ranges, normal equations for each range are accumulated in parallel
+ * and then summed, basis functions must be thread safe in this case.
  *
  * @author Denis_Murashev
  * @since Math 1.0
  */
 public class MultivariateLsmSolverImpl implements MultivariateLsmSolver {
 
+	/**
+	 * Minimal count of points processed by single task.
+	 */
+	private static final int MIN_TASK_POINTS = 1024;
+
+	/**
+	 * Decomposition used to solve the problem.
+	 */
+	private final LsmDecomposition decomposition;
+
+	/**
+	 * Executor for parallel accumulation, may be <code>null</code>.
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * Creates solver which uses LU decomposition in the calling thread.
+	 */
+	public MultivariateLsmSolverImpl() {
+		this(LsmDecomposition.LU, null);
+	}
+
+	/**
+	 * Creates solver which uses LU decomposition and accumulates normal
+	 * equations in parallel.
+	 *
+	 * @param executor executor
+	 * @since Math 1.1
+	 */
+	public MultivariateLsmSolverImpl(ExecutorService executor) {
+		this(LsmDecomposition.LU, executor);
+	}
+
+	/**
+	 * Creates solver which uses given decomposition in the calling thread.
+	 *
+	 * @param decomposition decomposition
+	 * @since Math 1.1
+	 */
+	public MultivariateLsmSolverImpl(LsmDecomposition decomposition) {
+		this(decomposition, null);
+	}
+
+	/**
+	 * Creates solver which uses given decomposition and accumulates normal
+	 * equations in parallel. Design matrix for {@link LsmDecomposition#QR}
+	 * is evaluated in the calling thread.
+	 *
+	 * @param decomposition decomposition
+	 * @param executor      executor
+	 * @since Math 1.1
+	 */
+	public MultivariateLsmSolverImpl(LsmDecomposition decomposition,
+			ExecutorService executor) {
+		if (decomposition == null) {
+			throw new IllegalArgumentException();
+		}
+		this.decomposition = decomposition;
+		this.executor = executor;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	public double[] solve(RealPointValuePair[] points,
 			MultivariateRealFunction[] basis) throws MathException {
-		double[][] a = new double[basis.length][basis.length];
-		double[] b = new double[basis.length];
-		for (int k = 0; k < a.length; k++) {
-			for (int i = 0; i < a.length; i++) {
-				a[k][i] = 0.0;
-				for (RealPointValuePair point : points) {
-					a[k][i] += basis[k].value(point.getPointRef())
-							* basis[i].value(point.getPointRef());
-				}
+		if (decomposition == LsmDecomposition.QR) {
+			return solveQR(points, basis);
+		}
+		return accumulate(points, basis).solve(decomposition);
+	}
+
+	/**
+	 * Solves the problem using QR decomposition of design matrix.
+	 *
+	 * @param points points
+	 * @param basis  functions basis
+	 * @return coefficients
+	 * @throws MathException if evaluation error occurs
+	 */
+	private static double[] solveQR(RealPointValuePair[] points,
+			MultivariateRealFunction[] basis) throws MathException {
+		double[][] design = new double[points.length][basis.length];
+		double[] values = new double[points.length];
+		for (int j = 0; j < points.length; j++) {
+			double[] x = points[j].getPointRef();
+			for (int i = 0; i < basis.length; i++) {
+				design[j][i] = basis[i].value(x);
+			}
+			values[j] = points[j].getValue();
+		}
+		return new QRDecompositionImpl(new Array2DRowRealMatrix(design,
+				false)).getSolver().solve(values);
+	}
+
+	/**
+	 * Accumulates normal equations.
+	 *
+	 * @param points points
+	 * @param basis  functions basis
+	 * @return accumulator
+	 * @throws MathException if evaluation error occurs
+	 */
+	private LsmAccumulator accumulate(RealPointValuePair[] points,
+			MultivariateRealFunction[] basis) throws MathException {
+		int tasks = executor == null ? 1 : Math.min(
+				Runtime.getRuntime().availableProcessors(),
+				points.length / MIN_TASK_POINTS);
+		if (tasks < 2) {
+			return new AccumulateTask(points, basis, 0, points.length).call();
+		}
+		List<Future<LsmAccumulator>> futures
+				= new ArrayList<Future<LsmAccumulator>>(tasks);
+		for (int i = 0; i < tasks; i++) {
+			int from = (int) ((long) i * points.length / tasks);
+			int to = (int) ((long) (i + 1) * points.length / tasks);
+			futures.add(executor.submit(
+					new AccumulateTask(points, basis, from, to)));
+		}
+		try {
+			LsmAccumulator result = futures.get(0).get();
+			for (int i = 1; i < tasks; i++) {
+				result.merge(futures.get(i).get());
 			}
-			b[k] = 0.0;
-			for (RealPointValuePair point : points) {
-				b[k] += basis[k].value(point.getPointRef())
-						* point.getValue();
+			return result;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof MathException) {
+				throw (MathException) e.getCause();
 			}
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			for (Future<LsmAccumulator> future : futures) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * <code>AccumulateTask</code> class accumulates normal equations for
+	 * range of points.
+	 */
+	private static final class AccumulateTask
+			implements Callable<LsmAccumulator> {
+
+		/**
+		 * All points.
+		 */
+		private final RealPointValuePair[] points;
+
+		/**
+		 * Functions basis.
+		 */
+		private final MultivariateRealFunction[] basis;
+
+		/**
+		 * First point index (inclusive).
+		 */
+		private final int from;
+
+		/**
+		 * Last point index (exclusive).
+		 */
+		private final int to;
+
+		/**
+		 * Creates task.
+		 *
+		 * @param points all points
+		 * @param basis  functions basis
+		 * @param from   first point index (inclusive)
+		 * @param to     last point index (exclusive)
+		 */
+		private AccumulateTask(RealPointValuePair[] points,
+				MultivariateRealFunction[] basis, int from, int to) {
+			this.points = points;
+			this.basis = basis;
+			this.from = from;
+			this.to = to;
 		}
 
-		RealMatrix matrix = new Array2DRowRealMatrix(a);
-		LUDecomposition decomposition = new LUDecompositionImpl(matrix);
-		return decomposition.getSolver().solve(b);
+		/**
+		 * {@inheritDoc}
+		 */
+		public LsmAccumulator call() throws MathException {
+			LsmAccumulator accumulator = new LsmAccumulator(basis.length);
+			double[] values = new double[basis.length];
+			for (int j = from; j < to; j++) {
+				double[] x = points[j].getPointRef();
+				for (int i = 0; i < basis.length; i++) {
+					values[i] = basis[i].value(x);
+				}
+				accumulator.add(values, points[j].getValue());
+			}
+			return accumulator;
+		}
 	}
 }
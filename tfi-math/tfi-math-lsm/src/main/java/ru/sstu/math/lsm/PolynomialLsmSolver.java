@@ -0,0 +1,136 @@
+package ru.sstu.math.lsm;
+
+import org.apache.commons.math.analysis.polynomials.PolynomialFunction;
+import org.apache.commons.math.linear.Array2DRowRealMatrix;
+import org.apache.commons.math.linear.LUDecompositionImpl;
+
+/**
+ * <code>PolynomialLsmSolver</code> class searches for fitting polynomial
+ * using Least Square Method. Unlike generic {@link UnivariateLsmSolver} it
+ * does not evaluate basis functions: normal equations of monomial basis
+ * consist of power sums, which are accumulated by recurrence in single pass
+ * over points. Arguments are mapped to [-1, 1] before that, which keeps
+ * normal equations well-conditioned for moderate degrees (up to 15 or so).
+ *
+ * @author Denis_Murashev
+ * @since Math 1.1
+ */
+public class PolynomialLsmSolver {
+
+	/**
+	 * Searches for fitting polynomial.
+	 *
+	 * @param points points, see {@link UnivariateLsmSolver#X} and
+	 *               {@link UnivariateLsmSolver#Y}
+	 * @param degree degree of polynomial
+	 * @return polynomial
+	 */
+	public PolynomialFunction solve(double[][] points, int degree) {
+		return solve(points, null, degree);
+	}
+
+	/**
+	 * Searches for fitting polynomial using weighted Least Square Method.
+	 *
+	 * @param points  points, see {@link UnivariateLsmSolver#X} and
+	 *                {@link UnivariateLsmSolver#Y}
+	 * @param weights non-negative weights of points, <code>null</code> for
+	 *                unit weights
+	 * @param degree  degree of polynomial
+	 * @return polynomial
+	 */
+	public PolynomialFunction solve(double[][] points, double[] weights,
+			int degree) {
+		if (degree < 0 || points.length == 0
+				|| weights != null && weights.length != points.length) {
+			throw new IllegalArgumentException();
+		}
+		double[] range = range(points);
+		double center = range[0];
+		double half = range[1];
+		double[] sums = new double[2 * degree + 1];
+		double[] rhs = new double[degree + 1];
+		accumulate(points, weights, center, half, sums, rhs);
+		double[][] a = new double[degree + 1][degree + 1];
+		for (int i = 0; i <= degree; i++) {
+			System.arraycopy(sums, i, a[i], 0, degree + 1);
+		}
+		double[] q = new LUDecompositionImpl(new Array2DRowRealMatrix(a,
+				false)).getSolver().solve(rhs);
+		return new PolynomialFunction(expand(q, center, half));
+	}
+
+	/**
+	 * Finds range of arguments.
+	 *
+	 * @param points points
+	 * @return center and half of the range
+	 */
+	private static double[] range(double[][] points) {
+		double min = points[0][UnivariateLsmSolver.X];
+		double max = min;
+		for (double[] point : points) {
+			min = Math.min(min, point[UnivariateLsmSolver.X]);
+			max = Math.max(max, point[UnivariateLsmSolver.X]);
+		}
+		double half = max > min ? (max - min) / 2 : 1.0;
+		return new double[] {(min + max) / 2, half};
+	}
+
+	/**
+	 * Accumulates power sums of mapped arguments. Powers of each argument
+	 * are obtained by successive multiplications.
+	 *
+	 * @param points  points
+	 * @param weights weights of points, may be <code>null</code>
+	 * @param center  center of arguments range
+	 * @param half    half of arguments range
+	 * @param sums    sums of powers
+	 * @param rhs     sums of values multiplied by powers
+	 */
+	private static void accumulate(double[][] points, double[] weights,
+			double center, double half, double[] sums, double[] rhs) {
+		for (int j = 0; j < points.length; j++) {
+			double t = (points[j][UnivariateLsmSolver.X] - center) / half;
+			double y = points[j][UnivariateLsmSolver.Y];
+			double p = weights == null ? 1.0 : weights[j];
+			if (p < 0.0) {
+				throw new IllegalArgumentException();
+			}
+			for (int k = 0; k < rhs.length; k++) {
+				sums[k] += p;
+				rhs[k] += p * y;
+				p *= t;
+			}
+			for (int k = rhs.length; k < sums.length; k++) {
+				sums[k] += p;
+				p *= t;
+			}
+		}
+	}
+
+	/**
+	 * Expands polynomial of <code>t = (x - center) / half</code> into
+	 * polynomial of <code>x</code> by Horner scheme.
+	 *
+	 * @param q      coefficients of polynomial of <code>t</code>
+	 * @param center center of arguments range
+	 * @param half   half of arguments range
+	 * @return coefficients of polynomial of <code>x</code>
+	 */
+	private static double[] expand(double[] q, double center, double half) {
+		double[] c = new double[q.length];
+		double shift = -center / half;
+		double scale = 1.0 / half;
+		int degree = q.length - 1;
+		c[0] = q[degree];
+		for (int k = degree - 1; k >= 0; k--) {
+			// c = c * (shift + scale * x) + q[k], c has degree - k - 1
+			for (int i = degree - k; i > 0; i--) {
+				c[i] = c[i] * shift + c[i - 1] * scale;
+			}
+			c[0] = c[0] * shift + q[k];
+		}
+		return c;
+	}
+}
@@ -0,0 +1,315 @@
+package ru.sstu.math.lsm;
+
+import java.util.Arrays;
+
+import org.apache.commons.math.FunctionEvaluationException;
+import org.apache.commons.math.analysis.UnivariateRealFunction;
+
+/**
+ * <code>RobustLsmSolver</code> class searches for univariate fitting
+ * function using Iteratively Reweighted Least Squares. After ordinary fit
+ * each point gets weight depending on its residual, and weighted problem is
+ * solved again until coefficients converge. Basis functions are evaluated
+ * once, then each iteration only reassembles normal equations from the
+ * stored design matrix and solves small system, so robust fit costs a few
+ * ordinary ones.
+ * Important! The class is not thread safe!
+ *
+ * @author Denis_Murashev
+ * @since Math 1.1
+ */
+public class RobustLsmSolver implements UnivariateLsmSolver {
+
+	/**
+	 * Default maximal count of iterations.
+	 */
+	private static final int DEFAULT_MAX_ITERATIONS = 50;
+
+	/**
+	 * Default relative tolerance of coefficients.
+	 */
+	private static final double DEFAULT_TOLERANCE = 1e-10;
+
+	/**
+	 * Median of absolute value of standard normal variable. Median absolute
+	 * residual divided by it estimates standard deviation.
+	 */
+	private static final double MAD_SCALE = 0.6744897501960817;
+
+	/**
+	 * Loss function.
+	 */
+	private final LsmLoss loss;
+
+	/**
+	 * Tuning constant.
+	 */
+	private final double tuning;
+
+	/**
+	 * Decomposition used to solve normal equations.
+	 */
+	private LsmDecomposition decomposition = LsmDecomposition.LU;
+
+	/**
+	 * Maximal count of iterations.
+	 */
+	private int maxIterations = DEFAULT_MAX_ITERATIONS;
+
+	/**
+	 * Relative tolerance of coefficients.
+	 */
+	private double tolerance = DEFAULT_TOLERANCE;
+
+	/**
+	 * Count of iterations during last run.
+	 */
+	private int iterations;
+
+	/**
+	 * Robust weights of points after last run.
+	 */
+	private double[] robustWeights;
+
+	/**
+	 * Creates solver with default tuning constant of given loss.
+	 *
+	 * @param loss loss function
+	 */
+	public RobustLsmSolver(LsmLoss loss) {
+		this(loss, loss.getTuning());
+	}
+
+	/**
+	 * Creates solver.
+	 *
+	 * @param loss   loss function
+	 * @param tuning positive tuning constant
+	 */
+	public RobustLsmSolver(LsmLoss loss, double tuning) {
+		if (loss == null || tuning <= 0.0) {
+			throw new IllegalArgumentException();
+		}
+		this.loss = loss;
+		this.tuning = tuning;
+	}
+
+	/**
+	 * @return decomposition used to solve normal equations
+	 */
+	public LsmDecomposition getDecomposition() {
+		return decomposition;
+	}
+
+	/**
+	 * @param decomposition LU or Cholesky decomposition
+	 */
+	public void setDecomposition(LsmDecomposition decomposition) {
+		if (decomposition == null || decomposition == LsmDecomposition.QR) {
+			throw new IllegalArgumentException();
+		}
+		this.decomposition = decomposition;
+	}
+
+	/**
+	 * @return maximal count of iterations
+	 */
+	public int getMaxIterations() {
+		return maxIterations;
+	}
+
+	/**
+	 * @param maxIterations maximal count of iterations
+	 */
+	public void setMaxIterations(int maxIterations) {
+		if (maxIterations < 1) {
+			throw new IllegalArgumentException();
+		}
+		this.maxIterations = maxIterations;
+	}
+
+	/**
+	 * @return relative tolerance of coefficients
+	 */
+	public double getTolerance() {
+		return tolerance;
+	}
+
+	/**
+	 * @param tolerance relative tolerance of coefficients
+	 */
+	public void setTolerance(double tolerance) {
+		if (tolerance < 0.0) {
+			throw new IllegalArgumentException();
+		}
+		this.tolerance = tolerance;
+	}
+
+	/**
+	 * @return count of reweighting iterations during last run
+	 */
+	public int getIterations() {
+		return iterations;
+	}
+
+	/**
+	 * Provides robust weights of points after last run. Outliers have
+	 * small weights.
+	 *
+	 * @return weights in [0, 1]
+	 */
+	public double[] getWeights() {
+		return robustWeights == null ? null : robustWeights.clone();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double[] solve(double[][] points, UnivariateRealFunction[] basis)
+			throws FunctionEvaluationException {
+		return solve(points, null, basis);
+	}
+
+	/**
+	 * Searches for fitting function, points have given weights in addition
+	 * to robust ones.
+	 *
+	 * @param points  points
+	 * @param weights non-negative weights of points, <code>null</code> for
+	 *                unit weights
+	 * @param basis   functions basis
+	 * @return coefficients
+	 * @throws FunctionEvaluationException if evaluation error occurs
+	 */
+	public double[] solve(double[][] points, double[] weights,
+			UnivariateRealFunction[] basis)
+			throws FunctionEvaluationException {
+		if (weights != null && weights.length != points.length) {
+			throw new IllegalArgumentException();
+		}
+		double[] design = evaluate(points, basis);
+		LsmAccumulator accumulator = new LsmAccumulator(basis.length);
+		robustWeights = new double[points.length];
+		Arrays.fill(robustWeights, 1.0);
+		double[] residuals = new double[points.length];
+		double[] c = fit(accumulator, design, points, weights);
+		iterations = 0;
+		while (iterations < maxIterations) {
+			iterations++;
+			residuals(design, points, c, residuals);
+			double scale = scale(residuals);
+			if (scale == 0.0) {
+				break;
+			}
+			for (int j = 0; j < points.length; j++) {
+				robustWeights[j] = loss.weight(residuals[j]
+						/ (tuning * scale));
+			}
+			double[] previous = c;
+			c = fit(accumulator, design, points, weights);
+			if (converged(previous, c)) {
+				break;
+			}
+		}
+		return c;
+	}
+
+	/**
+	 * Evaluates basis functions in all points.
+	 *
+	 * @param points points
+	 * @param basis  functions basis
+	 * @return design matrix stored row by row
+	 * @throws FunctionEvaluationException if evaluation error occurs
+	 */
+	private static double[] evaluate(double[][] points,
+			UnivariateRealFunction[] basis)
+			throws FunctionEvaluationException {
+		double[] design = new double[points.length * basis.length];
+		for (int j = 0; j < points.length; j++) {
+			int row = j * basis.length;
+			for (int i = 0; i < basis.length; i++) {
+				design[row + i] = basis[i].value(points[j][X]);
+			}
+		}
+		return design;
+	}
+
+	/**
+	 * Solves weighted problem with current robust weights.
+	 *
+	 * @param accumulator accumulator to be reused
+	 * @param design      design matrix
+	 * @param points      points
+	 * @param weights     weights of points, may be <code>null</code>
+	 * @return coefficients
+	 */
+	private double[] fit(LsmAccumulator accumulator, double[] design,
+			double[][] points, double[] weights) {
+		int size = accumulator.getSize();
+		accumulator.clear();
+		for (int j = 0; j < points.length; j++) {
+			double weight = robustWeights[j];
+			if (weights != null) {
+				weight *= weights[j];
+			}
+			accumulator.add(design, j * size, points[j][Y], weight);
+		}
+		return accumulator.solve(decomposition);
+	}
+
+	/**
+	 * Calculates residuals of points.
+	 *
+	 * @param design    design matrix
+	 * @param points    points
+	 * @param c         coefficients
+	 * @param residuals array for residuals
+	 */
+	private static void residuals(double[] design, double[][] points,
+			double[] c, double[] residuals) {
+		for (int j = 0; j < points.length; j++) {
+			int row = j * c.length;
+			double value = 0.0;
+			for (int i = 0; i < c.length; i++) {
+				value += c[i] * design[row + i];
+			}
+			residuals[j] = points[j][Y] - value;
+		}
+	}
+
+	/**
+	 * Estimates deviation of residuals by median absolute deviation.
+	 *
+	 * @param residuals residuals
+	 * @return deviation
+	 */
+	private static double scale(double[] residuals) {
+		double[] a = new double[residuals.length];
+		for (int j = 0; j < a.length; j++) {
+			a[j] = Math.abs(residuals[j]);
+		}
+		Arrays.sort(a);
+		int middle = a.length / 2;
+		double median = a.length % 2 == 1 ? a[middle]
+				: (a[middle - 1] + a[middle]) / 2;
+		return median / MAD_SCALE;
+	}
+
+	/**
+	 * Checks convergence of coefficients.
+	 *
+	 * @param previous coefficients of previous iteration
+	 * @param current  coefficients of current iteration
+	 * @return <code>true</code> if coefficients converged
+	 */
+	private boolean converged(double[] previous, double[] current) {
+		double norm = 1.0;
+		double change = 0.0;
+		for (int i = 0; i < current.length; i++) {
+			norm = Math.max(norm, Math.abs(current[i]));
+			change = Math.max(change, Math.abs(current[i] - previous[i]));
+		}
+		return change <= tolerance * norm;
+	}
+}
@@ -0,0 +1,159 @@
+package ru.sstu.math.lsm;
+
+import java.util.Arrays;
+
+/**
+ * <code>SparseDesignMatrix</code> class stores non-zero values of basis
+ * functions in points in compressed rows format. Rows are appended one by
+ * one, so matrix can be filled without knowing count of non-zero values in
+ * advance.
+ *
+ * @author Denis_Murashev
+ * @since Math 1.1
+ */
+final class SparseDesignMatrix {
+
+	/**
+	 * Initial capacity of arrays.
+	 */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * Count of columns.
+	 */
+	private final int columns;
+
+	/**
+	 * Non-zero values.
+	 */
+	private double[] values;
+
+	/**
+	 * Column indices of non-zero values.
+	 */
+	private int[] indices;
+
+	/**
+	 * Start of each row in values array, and total count of values.
+	 */
+	private int[] starts;
+
+	/**
+	 * Count of rows.
+	 */
+	private int rows;
+
+	/**
+	 * Creates empty matrix.
+	 *
+	 * @param columns count of columns
+	 */
+	SparseDesignMatrix(int columns) {
+		this.columns = columns;
+		values = new double[INITIAL_CAPACITY];
+		indices = new int[INITIAL_CAPACITY];
+		starts = new int[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * @return count of rows
+	 */
+	int getRows() {
+		return rows;
+	}
+
+	/**
+	 * @return count of columns
+	 */
+	int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * @return count of stored non-zero values
+	 */
+	int getNonZeros() {
+		return starts[rows];
+	}
+
+	/**
+	 * Appends row. Only non-zero values are stored.
+	 *
+	 * @param row dense row
+	 */
+	void addRow(double[] row) {
+		if (rows + 2 > starts.length) {
+			starts = Arrays.copyOf(starts, 2 * starts.length);
+		}
+		int count = starts[rows];
+		for (int i = 0; i < columns; i++) {
+			if (row[i] != 0.0) {
+				if (count == values.length) {
+					values = Arrays.copyOf(values, 2 * count);
+					indices = Arrays.copyOf(indices, 2 * count);
+				}
+				values[count] = row[i];
+				indices[count] = i;
+				count++;
+			}
+		}
+		rows++;
+		starts[rows] = count;
+	}
+
+	/**
+	 * Multiplies columns by given factors.
+	 *
+	 * @param factors factors of columns
+	 */
+	void scaleColumns(double[] factors) {
+		for (int k = 0; k < starts[rows]; k++) {
+			values[k] *= factors[indices[k]];
+		}
+	}
+
+	/**
+	 * Calculates squared norms of columns.
+	 *
+	 * @return squared norms
+	 */
+	double[] columnNorms() {
+		double[] norms = new double[columns];
+		for (int k = 0; k < starts[rows]; k++) {
+			norms[indices[k]] += values[k] * values[k];
+		}
+		return norms;
+	}
+
+	/**
+	 * Calculates <code>y = A x</code>.
+	 *
+	 * @param x vector of columns length
+	 * @param y vector of rows length
+	 */
+	void multiply(double[] x, double[] y) {
+		for (int j = 0; j < rows; j++) {
+			double sum = 0.0;
+			for (int k = starts[j]; k < starts[j + 1]; k++) {
+				sum += values[k] * x[indices[k]];
+			}
+			y[j] = sum;
+		}
+	}
+
+	/**
+	 * Calculates <code>x = A<sup>T</sup> y</code>.
+	 *
+	 * @param y vector of rows length
+	 * @param x vector of columns length
+	 */
+	void multiplyTransposed(double[] y, double[] x) {
+		Arrays.fill(x, 0.0);
+		for (int j = 0; j < rows; j++) {
+			double yj = y[j];
+			for (int k = starts[j]; k < starts[j + 1]; k++) {
+				x[indices[k]] += values[k] * yj;
+			}
+		}
+	}
+}
@@ -0,0 +1,197 @@
+package ru.sstu.math.lsm;
+
+import org.apache.commons.math.MathException;
+import org.apache.commons.math.MaxIterationsExceededException;
+import org.apache.commons.math.analysis.MultivariateRealFunction;
+import org.apache.commons.math.optimization.RealPointValuePair;
+
+/**
+ * <code>SparseLsmSolver</code> class searches for multivariate fitting
+ * function with large basis of localized functions (radial basis functions,
+ * splines and so on). Normal equations matrix is never formed: only
+ * non-zero values of basis functions in points are stored, and problem is
+ * solved by conjugate gradients method applied to normal equations (CGLS).
+ * Columns are scaled to unit norm before that, which reduces count of
+ * iterations. Memory is proportional to count of non-zero values instead of
+ * squared basis size.
+ *
+ * @author Denis_Murashev
+ * @since Math 1.1
+ */
+public class SparseLsmSolver implements MultivariateLsmSolver {
+
+	/**
+	 * Default maximal count of iterations.
+	 */
+	private static final int DEFAULT_MAX_ITERATIONS = 10000;
+
+	/**
+	 * Default relative tolerance of normal equations residual.
+	 */
+	private static final double DEFAULT_TOLERANCE = 1e-10;
+
+	/**
+	 * Maximal count of iterations.
+	 */
+	private int maxIterations = DEFAULT_MAX_ITERATIONS;
+
+	/**
+	 * Relative tolerance of normal equations residual.
+	 */
+	private double tolerance = DEFAULT_TOLERANCE;
+
+	/**
+	 * Count of iterations during last run.
+	 */
+	private int iterations;
+
+	/**
+	 * Count of non-zero values of design matrix during last run.
+	 */
+	private int nonZeros;
+
+	/**
+	 * @return maximal count of iterations
+	 */
+	public int getMaxIterations() {
+		return maxIterations;
+	}
+
+	/**
+	 * @param maxIterations maximal count of iterations
+	 */
+	public void setMaxIterations(int maxIterations) {
+		if (maxIterations < 1) {
+			throw new IllegalArgumentException();
+		}
+		this.maxIterations = maxIterations;
+	}
+
+	/**
+	 * @return relative tolerance of normal equations residual
+	 */
+	public double getTolerance() {
+		return tolerance;
+	}
+
+	/**
+	 * @param tolerance relative tolerance of normal equations residual
+	 */
+	public void setTolerance(double tolerance) {
+		if (tolerance < 0.0) {
+			throw new IllegalArgumentException();
+		}
+		this.tolerance = tolerance;
+	}
+
+	/**
+	 * @return count of iterations during last run
+	 */
+	public int getIterations() {
+		return iterations;
+	}
+
+	/**
+	 * @return count of non-zero values of design matrix during last run
+	 */
+	public int getNonZeros() {
+		return nonZeros;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double[] solve(RealPointValuePair[] points,
+			MultivariateRealFunction[] basis) throws MathException {
+		SparseDesignMatrix a = new SparseDesignMatrix(basis.length);
+		double[] b = new double[points.length];
+		double[] row = new double[basis.length];
+		for (int j = 0; j < points.length; j++) {
+			double[] x = points[j].getPointRef();
+			for (int i = 0; i < basis.length; i++) {
+				row[i] = basis[i].value(x);
+			}
+			a.addRow(row);
+			b[j] = points[j].getValue();
+		}
+		nonZeros = a.getNonZeros();
+		double[] factors = a.columnNorms();
+		for (int i = 0; i < factors.length; i++) {
+			factors[i] = factors[i] > 0.0 ? 1.0 / Math.sqrt(factors[i])
+					: 0.0;
+		}
+		a.scaleColumns(factors);
+		double[] c = solve(a, b);
+		for (int i = 0; i < c.length; i++) {
+			c[i] *= factors[i];
+		}
+		return c;
+	}
+
+	/**
+	 * Solves least squares problem <code>A x = b</code> by CGLS method.
+	 *
+	 * @param a matrix
+	 * @param b right hand side
+	 * @return solution
+	 * @throws MaxIterationsExceededException if method does not converge
+	 */
+	private double[] solve(SparseDesignMatrix a, double[] b)
+			throws MaxIterationsExceededException {
+		double[] x = new double[a.getColumns()];
+		double[] r = b.clone();
+		double[] s = new double[x.length];
+		double[] q = new double[b.length];
+		a.multiplyTransposed(r, s);
+		double[] p = s.clone();
+		double gamma = dot(s, s);
+		double threshold = tolerance * tolerance * gamma;
+		iterations = 0;
+		while (gamma > threshold) {
+			if (iterations == maxIterations) {
+				throw new MaxIterationsExceededException(maxIterations);
+			}
+			iterations++;
+			a.multiply(p, q);
+			double alpha = gamma / dot(q, q);
+			axpy(alpha, p, x);
+			axpy(-alpha, q, r);
+			a.multiplyTransposed(r, s);
+			double next = dot(s, s);
+			double beta = next / gamma;
+			for (int i = 0; i < p.length; i++) {
+				p[i] = s[i] + beta * p[i];
+			}
+			gamma = next;
+		}
+		return x;
+	}
+
+	/**
+	 * Calculates dot product.
+	 *
+	 * @param u first vector
+	 * @param v second vector
+	 * @return dot product
+	 */
+	private static double dot(double[] u, double[] v) {
+		double sum = 0.0;
+		for (int i = 0; i < u.length; i++) {
+			sum += u[i] * v[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * Calculates <code>y = y + a x</code>.
+	 *
+	 * @param a factor
+	 * @param x vector
+	 * @param y vector to be changed
+	 */
+	private static void axpy(double a, double[] x, double[] y) {
+		for (int i = 0; i < y.length; i++) {
+			y[i] += a * x[i];
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package ru.sstu.math.lsm;
+
+import org.apache.commons.math.FunctionEvaluationException;
+import org.apache.commons.math.analysis.UnivariateRealFunction;
+
+/**
+ * <code>UnivariateLsmAccumulator</code> class accumulates normal equations
+ * for univariate fitting function, so it can be fitted on stream of points.
+ * Important! The class is not thread safe! Use separate accumulator for each
+ * thread and merge them.
+ *
+ * @author Denis_Murashev
+ * @since Math 1.1
+ */
+public class UnivariateLsmAccumulator extends LsmAccumulator {
+
+	/**
+	 * Functions basis.
+	 */
+	private final UnivariateRealFunction[] basis;
+
+	/**
+	 * Values of basis functions in current point.
+	 */
+	private final double[] values;
+
+	/**
+	 * Creates empty accumulator.
+	 *
+	 * @param basis functions basis
+	 */
+	public UnivariateLsmAccumulator(UnivariateRealFunction[] basis) {
+		super(basis.length);
+		this.basis = basis.clone();
+		values = new double[basis.length];
+	}
+
+	/**
+	 * Adds point to normal equations.
+	 *
+	 * @param x argument
+	 * @param y value of fitted function
+	 * @throws FunctionEvaluationException if basis function cannot be
+	 *                                     evaluated
+	 */
+	public void add(double x, double y) throws FunctionEvaluationException {
+		add(x, y, 1.0);
+	}
+
+	/**
+	 * Adds point with given weight to normal equations.
+	 *
+	 * @param x      argument
+	 * @param y      value of fitted function
+	 * @param weight non-negative weight of the point
+	 * @throws FunctionEvaluationException if basis function cannot be
+	 *                                     evaluated
+	 */
+	public void add(double x, double y, double weight)
+			throws FunctionEvaluationException {
+		for (int i = 0; i < basis.length; i++) {
+			values[i] = basis[i].value(x);
+		}
+		add(values, y, weight);
+	}
+
+	/**
+	 * Adds points to normal equations.
+	 *
+	 * @param points points, see {@link UnivariateLsmSolver#X} and
+	 *               {@link UnivariateLsmSolver#Y}
+	 * @throws FunctionEvaluationException if basis function cannot be
+	 *                                     evaluated
+	 */
+	public void add(double[][] points) throws FunctionEvaluationException {
+		for (double[] point : points) {
+			add(point[UnivariateLsmSolver.X], point[UnivariateLsmSolver.Y]);
+		}
+	}
+
+	/**
+	 * Adds points with given weights to normal equations.
+	 *
+	 * @param points  points, see {@link UnivariateLsmSolver#X} and
+	 *                {@link UnivariateLsmSolver#Y}
+	 * @param weights non-negative weights of points
+	 * @throws FunctionEvaluationException if basis function cannot be
+	 *                                     evaluated
+	 */
+	public void add(double[][] points, double[] weights)
+			throws FunctionEvaluationException {
+		if (weights.length != points.length) {
+			throw new IllegalArgumentException();
+		}
+		for (int j = 0; j < points.length; j++) {
+			add(points[j][UnivariateLsmSolver.X],
+					points[j][UnivariateLsmSolver.Y], weights[j]);
+		}
+	}
+}
@@ -3,42 +3,110 @@ package ru.sstu.math.lsm;
 import org.apache.commons.math.FunctionEvaluationException;
 import org.apache.commons.math.analysis.UnivariateRealFunction;
 import org.apache.commons.math.linear.Array2DRowRealMatrix;
-import org.apache.commons.math.linear.LUDecomposition;
-import org.apache.commons.math.linear.LUDecompositionImpl;
-import org.apache.commons.math.linear.RealMatrix;
+import org.apache.commons.math.linear.QRDecompositionImpl;
 
 /**
  * <code>UnivariateLsmSolverImpl</code> class is default implementation of
- * {@link UnivariateLsmSolver} interface.
+ * {@link UnivariateLsmSolver} interface. Normal equations are accumulated
+ * point by point, each basis function is evaluated once per point.
  *
  * @author Denis_Murashev
  * @since Math 1.0
  */
 public class UnivariateLsmSolverImpl implements UnivariateLsmSolver {
 
+	/**
+	 * Decomposition used to solve the problem.
+	 */
+	private final LsmDecomposition decomposition;
+
+	/**
+	 * Creates solver which uses LU decomposition.
+	 */
+	public UnivariateLsmSolverImpl() {
+		this(LsmDecomposition.LU);
+	}
+
+	/**
+	 * Creates solver which uses given decomposition.
+	 *
+	 * @param decomposition decomposition
+	 * @since Math 1.1
+	 */
+	public UnivariateLsmSolverImpl(LsmDecomposition decomposition) {
+		if (decomposition == null) {
+			throw new IllegalArgumentException();
+		}
+		this.decomposition = decomposition;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	public double[] solve(double[][] points, UnivariateRealFunction[] basis)
 			throws FunctionEvaluationException {
-		double[][] a = new double[basis.length][basis.length];
-		double[] b = new double[basis.length];
-		for (int k = 0; k < a.length; k++) {
-			for (int i = 0; i < a.length; i++) {
-				a[k][i] = 0.0;
-				for (double[] point : points) {
-					a[k][i] += basis[k].value(point[X])
-							* basis[i].value(point[X]);
-				}
+		if (decomposition == LsmDecomposition.QR) {
+			return solveQR(points, null, basis);
+		}
+		UnivariateLsmAccumulator accumulator = new UnivariateLsmAccumulator(
+				basis);
+		accumulator.add(points);
+		return accumulator.solve(decomposition);
+	}
+
+	/**
+	 * Searches for fitting function using weighted Least Square Method.
+	 * Weight of point is usually inverted variance of its value.
+	 *
+	 * @param points  points
+	 * @param weights non-negative weights of points
+	 * @param basis   functions basis
+	 * @return coefficients
+	 * @throws FunctionEvaluationException if evaluation error occurs
+	 * @since Math 1.1
+	 */
+	public double[] solve(double[][] points, double[] weights,
+			UnivariateRealFunction[] basis)
+			throws FunctionEvaluationException {
+		if (decomposition == LsmDecomposition.QR) {
+			return solveQR(points, weights, basis);
+		}
+		UnivariateLsmAccumulator accumulator = new UnivariateLsmAccumulator(
+				basis);
+		accumulator.add(points, weights);
+		return accumulator.solve(decomposition);
+	}
+
+	/**
+	 * Solves the problem using QR decomposition of design matrix. Rows of
+	 * weighted problem are multiplied by square roots of weights.
+	 *
+	 * @param points  points
+	 * @param weights weights of points, <code>null</code> for unit weights
+	 * @param basis   functions basis
+	 * @return coefficients
+	 * @throws FunctionEvaluationException if evaluation error occurs
+	 */
+	private static double[] solveQR(double[][] points, double[] weights,
+			UnivariateRealFunction[] basis)
+			throws FunctionEvaluationException {
+		if (weights != null && weights.length != points.length) {
+			throw new IllegalArgumentException();
+		}
+		double[][] design = new double[points.length][basis.length];
+		double[] values = new double[points.length];
+		for (int j = 0; j < points.length; j++) {
+			double weight = weights == null ? 1.0 : weights[j];
+			if (weight < 0.0) {
+				throw new IllegalArgumentException();
 			}
-			b[k] = 0.0;
-			for (double[] point : points) {
-				b[k] += basis[k].value(point[X]) * point[Y];
+			double factor = Math.sqrt(weight);
+			for (int i = 0; i < basis.length; i++) {
+				design[j][i] = factor * basis[i].value(points[j][X]);
 			}
+			values[j] = factor * points[j][Y];
 		}
-
-		RealMatrix matrix = new Array2DRowRealMatrix(a);
-		LUDecomposition decomposition = new LUDecompositionImpl(matrix);
-		return decomposition.getSolver().solve(b);
+		return new QRDecompositionImpl(new Array2DRowRealMatrix(design,
+				false)).getSolver().solve(values);
 	}
 }
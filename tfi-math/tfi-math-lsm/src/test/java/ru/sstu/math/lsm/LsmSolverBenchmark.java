@@ -0,0 +1,154 @@
+package ru.sstu.math.lsm;
+
+import org.apache.commons.math.MathException;
+import org.apache.commons.math.analysis.UnivariateRealFunction;
+import org.apache.commons.math.analysis.polynomials.PolynomialFunction;
+import org.apache.commons.math.linear.InvalidMatrixException;
+import org.apache.log4j.Logger;
+
+/**
+ * <code>LsmSolverBenchmark</code> class compares decompositions by time and
+ * by residual of polynomial fitting. Monomial basis of high degree is
+ * ill-conditioned, so it shows difference in accuracy.
+ * It is not executed during build, run it manually:
+ * <code>java ru.sstu.math.lsm.LsmSolverBenchmark [points]</code>
+ *
+ * @author Denis_Murashev
+ * @since Math 1.1
+ */
+public final class LsmSolverBenchmark {
+
+	/**
+	 * Logger.
+	 */
+	private static Logger log = Logger.getLogger(LsmSolverBenchmark.class);
+
+	/**
+	 * Default count of points.
+	 */
+	private static final int POINTS = 100000;
+
+	/**
+	 * Degrees of fitted polynomials.
+	 */
+	private static final int[] DEGREES = {3, 6, 9, 12};
+
+	/**
+	 * Count of measured runs.
+	 */
+	private static final int RUNS = 5;
+
+	/**
+	 * Columns separator.
+	 */
+	private static final String TAB = "\t";
+
+	/**
+	 * Nanoseconds in millisecond.
+	 */
+	private static final double NANOS_PER_MILLI = 1e6;
+
+	/**
+	 * Utility class.
+	 */
+	private LsmSolverBenchmark() {
+	}
+
+	/**
+	 * Runs benchmark.
+	 *
+	 * @param args count of points (optional)
+	 * @throws MathException if evaluation error occurs
+	 */
+	public static void main(String[] args) throws MathException {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : POINTS;
+		log.info("Points " + count);
+		log.info("Degree\tDecomposition\tms\tRMS residual\tmax error");
+		for (int degree : DEGREES) {
+			UnivariateRealFunction[] basis = monomials(degree);
+			double[] exact = new double[degree + 1];
+			for (int i = 0; i <= degree; i++) {
+				exact[i] = 1.0 / (i + 1);
+			}
+			double[][] points = points(new PolynomialFunction(exact), count);
+			for (LsmDecomposition decomposition : LsmDecomposition.values()) {
+				log.info(degree + TAB + decomposition + TAB
+						+ measure(decomposition, points, basis, exact));
+			}
+		}
+	}
+
+	/**
+	 * Measures single decomposition.
+	 *
+	 * @param decomposition decomposition
+	 * @param points        points
+	 * @param basis         functions basis
+	 * @param exact         exact coefficients
+	 * @return time, residual and error of coefficients
+	 * @throws MathException if evaluation error occurs
+	 */
+	private static String measure(LsmDecomposition decomposition,
+			double[][] points, UnivariateRealFunction[] basis,
+			double[] exact) throws MathException {
+		UnivariateLsmSolver solver = new UnivariateLsmSolverImpl(
+				decomposition);
+		double[] c;
+		try {
+			c = solver.solve(points, basis);
+		} catch (InvalidMatrixException e) {
+			return "singular";
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < RUNS; i++) {
+			c = solver.solve(points, basis);
+		}
+		double time = (System.nanoTime() - start) / NANOS_PER_MILLI / RUNS;
+		PolynomialFunction fitted = new PolynomialFunction(c);
+		double sum = 0.0;
+		for (double[] point : points) {
+			double r = fitted.value(point[UnivariateLsmSolver.X])
+					- point[UnivariateLsmSolver.Y];
+			sum += r * r;
+		}
+		double error = 0.0;
+		for (int i = 0; i < c.length; i++) {
+			error = Math.max(error, Math.abs(c[i] - exact[i]));
+		}
+		return String.format("%.1f\t%.3e\t%.3e", time,
+				Math.sqrt(sum / points.length), error);
+	}
+
+	/**
+	 * Creates monomial basis.
+	 *
+	 * @param degree maximal degree
+	 * @return basis
+	 */
+	private static UnivariateRealFunction[] monomials(int degree) {
+		UnivariateRealFunction[] basis = new UnivariateRealFunction[degree
+				+ 1];
+		for (int i = 0; i <= degree; i++) {
+			double[] c = new double[i + 1];
+			c[i] = 1.0;
+			basis[i] = new PolynomialFunction(c);
+		}
+		return basis;
+	}
+
+	/**
+	 * Creates points of given function on [0, 1].
+	 *
+	 * @param f     function
+	 * @param count count of points
+	 * @return points
+	 */
+	private static double[][] points(PolynomialFunction f, int count) {
+		double[][] points = new double[count][];
+		for (int i = 0; i < count; i++) {
+			double x = (double) i / (count - 1);
+			points[i] = new double[] {x, f.value(x)};
+		}
+		return points;
+	}
+}
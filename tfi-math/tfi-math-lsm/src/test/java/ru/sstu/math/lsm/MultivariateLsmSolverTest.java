@@ -1,5 +1,8 @@
 package ru.sstu.math.lsm;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import junit.framework.TestCase;
 
 import org.apache.commons.math.analysis.MultivariateRealFunction;
@@ -53,4 +56,64 @@ public class MultivariateLsmSolverTest extends TestCase {
 			assertEquals(expected[i], actual[i], delta);
 		}
 	}
+
+	/**
+	 * Tests that parallel solver gives the same result as sequential one.
+	 *
+	 * @throws Exception if error occurs
+	 */
+	public void testParallel() throws Exception {
+		final int count = 10000;
+		final int threads = 4;
+		final double[] expected = {0.5, -1.0, 2.0, 3.0};
+		final MultivariateRealFunction[] basis = {
+			new MultivariateRealFunction() {
+
+				public double value(double[] x) {
+					return 1.0;
+				}
+			},
+			new MultivariateRealFunction() {
+
+				public double value(double[] x) {
+					return x[0];
+				}
+			},
+			new MultivariateRealFunction() {
+
+				public double value(double[] x) {
+					return x[1];
+				}
+			},
+			new MultivariateRealFunction() {
+
+				public double value(double[] x) {
+					return x[0] * x[1];
+				}
+			},
+		};
+		RealPointValuePair[] points = new RealPointValuePair[count];
+		for (int i = 0; i < count; i++) {
+			double[] x = {Math.sin(i), Math.cos(2 * i)};
+			double y = 0.0;
+			for (int k = 0; k < basis.length; k++) {
+				y += expected[k] * basis[k].value(x);
+			}
+			points[i] = new RealPointValuePair(x, y);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			double[] parallel = new MultivariateLsmSolverImpl(executor)
+					.solve(points, basis);
+			double[] sequential = new MultivariateLsmSolverImpl()
+					.solve(points, basis);
+			final double delta = 1e-9;
+			for (int i = 0; i < basis.length; i++) {
+				assertEquals(expected[i], sequential[i], delta);
+				assertEquals(sequential[i], parallel[i], delta);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
 }
@@ -0,0 +1,74 @@
+package ru.sstu.math.lsm;
+
+import org.apache.commons.math.analysis.UnivariateRealFunction;
+import org.apache.commons.math.analysis.polynomials.PolynomialFunction;
+
+import junit.framework.TestCase;
+
+/**
+ * <code>PolynomialLsmSolverTest</code> class contains unit tests for
+ * {@link PolynomialLsmSolver}.
+ *
+ * @author Denis_Murashev
+ * @since Math 1.1
+ */
+public class PolynomialLsmSolverTest extends TestCase {
+
+	/**
+	 * Count of points.
+	 */
+	private static final int POINTS = 500;
+
+	/**
+	 * Tests that exact polynomial is restored.
+	 *
+	 * @throws Exception if error occurs
+	 */
+	public void testExact() throws Exception {
+		final double[] expected = {3.0, -1.0, 0.5, 2.0, -0.25};
+		final double from = 10.0;
+		final double delta = 1e-6;
+		PolynomialFunction f = new PolynomialFunction(expected);
+		double[][] points = new double[POINTS][];
+		for (int i = 0; i < POINTS; i++) {
+			double x = from + (double) i / POINTS;
+			points[i] = new double[] {x, f.value(x)};
+		}
+		PolynomialFunction actual = new PolynomialLsmSolver().solve(points,
+				expected.length - 1);
+		double[] c = actual.getCoefficients();
+		assertEquals(expected.length, c.length);
+		for (double[] point : points) {
+			assertEquals(point[1], actual.value(point[0]), delta);
+		}
+	}
+
+	/**
+	 * Tests that result is the same as result of generic solver.
+	 *
+	 * @throws Exception if error occurs
+	 */
+	public void testGeneric() throws Exception {
+		final int degree = 3;
+		final double delta = 1e-9;
+		double[][] points = new double[POINTS][];
+		for (int i = 0; i < POINTS; i++) {
+			double x = (double) i / POINTS;
+			points[i] = new double[] {x, Math.exp(x)};
+		}
+		UnivariateRealFunction[] basis = new UnivariateRealFunction[degree
+				+ 1];
+		for (int i = 0; i <= degree; i++) {
+			double[] c = new double[i + 1];
+			c[i] = 1.0;
+			basis[i] = new PolynomialFunction(c);
+		}
+		double[] expected = new UnivariateLsmSolverImpl(LsmDecomposition.QR)
+				.solve(points, basis);
+		double[] actual = new PolynomialLsmSolver().solve(points, degree)
+				.getCoefficients();
+		for (int i = 0; i <= degree; i++) {
+			assertEquals(expected[i], actual[i], delta);
+		}
+	}
+}
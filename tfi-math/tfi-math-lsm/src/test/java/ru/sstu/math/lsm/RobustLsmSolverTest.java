@@ -0,0 +1,90 @@
+package ru.sstu.math.lsm;
+
+import org.apache.commons.math.analysis.UnivariateRealFunction;
+import org.apache.commons.math.analysis.polynomials.PolynomialFunction;
+
+import junit.framework.TestCase;
+
+/**
+ * <code>RobustLsmSolverTest</code> class contains unit tests for
+ * {@link RobustLsmSolver}.
+ *
+ * @author Denis_Murashev
+ * @since Math 1.1
+ */
+public class RobustLsmSolverTest extends TestCase {
+
+	/**
+	 * Count of points.
+	 */
+	private static final int POINTS = 200;
+
+	/**
+	 * Each outlier index is multiple of this value.
+	 */
+	private static final int OUTLIERS_STEP = 10;
+
+	/**
+	 * Value added to outliers.
+	 */
+	private static final double OUTLIER = 100.0;
+
+	/**
+	 * Coefficients of fitted line.
+	 */
+	private static final double[] EXPECTED = {1.0, 2.0};
+
+	/**
+	 * Basis.
+	 */
+	private final UnivariateRealFunction[] basis = {
+		new PolynomialFunction(new double[] {1.0}),
+		new PolynomialFunction(new double[] {0.0, 1.0}),
+	};
+
+	/**
+	 * Tests that outliers do not affect fitting.
+	 *
+	 * @throws Exception if error occurs
+	 */
+	public void testOutliers() throws Exception {
+		final double noise = 0.01;
+		final double olsDelta = 1.0;
+		final double huberDelta = 0.05;
+		final double tukeyDelta = 0.01;
+		PolynomialFunction f = new PolynomialFunction(EXPECTED);
+		double[][] points = new double[POINTS][];
+		for (int i = 0; i < POINTS; i++) {
+			double x = (double) i / POINTS;
+			double y = f.value(x) + noise * Math.sin(i);
+			if (i % OUTLIERS_STEP == 0) {
+				y += OUTLIER;
+			}
+			points[i] = new double[] {x, y};
+		}
+		double[] ols = new UnivariateLsmSolverImpl().solve(points, basis);
+		assertTrue(Math.abs(ols[0] - EXPECTED[0]) > olsDelta);
+		RobustLsmSolver huber = new RobustLsmSolver(LsmLoss.HUBER);
+		check(huber.solve(points, basis), huberDelta);
+		RobustLsmSolver tukey = new RobustLsmSolver(LsmLoss.TUKEY);
+		tukey.setDecomposition(LsmDecomposition.CHOLESKY);
+		check(tukey.solve(points, basis), tukeyDelta);
+		assertTrue(tukey.getIterations() > 1);
+		double[] weights = tukey.getWeights();
+		for (int i = 0; i < POINTS; i++) {
+			assertEquals(i % OUTLIERS_STEP == 0, weights[i] == 0.0);
+		}
+	}
+
+	/**
+	 * Checks coefficients.
+	 *
+	 * @param actual actual coefficients
+	 * @param delta  delta
+	 */
+	private static void check(double[] actual, double delta) {
+		for (int i = 0; i < EXPECTED.length; i++) {
+			assertEquals(EXPECTED[i], actual[i], delta);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package ru.sstu.math.lsm;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.math.analysis.MultivariateRealFunction;
+import org.apache.commons.math.optimization.RealPointValuePair;
+
+/**
+ * <code>SparseLsmSolverTest</code> class contains unit tests for
+ * {@link SparseLsmSolver}.
+ *
+ * @author Denis_Murashev
+ * @since Math 1.1
+ */
+public class SparseLsmSolverTest extends TestCase {
+
+	/**
+	 * Count of basis functions.
+	 */
+	private static final int NODES = 100;
+
+	/**
+	 * Count of points.
+	 */
+	private static final int POINTS = 2000;
+
+	/**
+	 * Tests that sparse solver gives the same result as dense one for basis
+	 * of piecewise linear functions.
+	 *
+	 * @throws Exception if error occurs
+	 */
+	public void testHatFunctions() throws Exception {
+		final double delta = 1e-7;
+		MultivariateRealFunction[] basis = new MultivariateRealFunction[NODES];
+		final double step = 1.0 / (NODES - 1);
+		for (int i = 0; i < NODES; i++) {
+			final double node = i * step;
+			basis[i] = new MultivariateRealFunction() {
+
+				public double value(double[] x) {
+					return Math.max(0.0, 1.0 - Math.abs(x[0] - node) / step);
+				}
+			};
+		}
+		RealPointValuePair[] points = new RealPointValuePair[POINTS];
+		for (int j = 0; j < POINTS; j++) {
+			double x = (double) j / (POINTS - 1);
+			points[j] = new RealPointValuePair(new double[] {x},
+					Math.sin(2 * Math.PI * x));
+		}
+		double[] expected = new MultivariateLsmSolverImpl(
+				LsmDecomposition.CHOLESKY).solve(points, basis);
+		SparseLsmSolver solver = new SparseLsmSolver();
+		double[] actual = solver.solve(points, basis);
+		for (int i = 0; i < NODES; i++) {
+			assertEquals(expected[i], actual[i], delta);
+		}
+		assertTrue(solver.getNonZeros() <= 2 * POINTS);
+		assertTrue(solver.getIterations() > 0);
+	}
+}
@@ -0,0 +1,67 @@
+package ru.sstu.math.lsm;
+
+import org.apache.commons.math.analysis.UnivariateRealFunction;
+import org.apache.commons.math.analysis.polynomials.PolynomialFunction;
+
+import junit.framework.TestCase;
+
+/**
+ * <code>UnivariateLsmAccumulatorTest</code> class contains unit tests for
+ * {@link UnivariateLsmAccumulator}.
+ *
+ * @author Denis_Murashev
+ * @since Math 1.1
+ */
+public class UnivariateLsmAccumulatorTest extends TestCase {
+
+	/**
+	 * Delta.
+	 */
+	private static final double DELTA = 1e-9;
+
+	/**
+	 * Coefficients of fitted polynomial.
+	 */
+	private static final double[] EXPECTED = {1.0, -2.0, 0.5};
+
+	/**
+	 * Count of points.
+	 */
+	private static final int POINTS = 1000;
+
+	/**
+	 * Tests that merged accumulators give the same result as single one.
+	 *
+	 * @throws Exception if error occurs
+	 */
+	public void testMerge() throws Exception {
+		final UnivariateRealFunction[] basis = {
+			new PolynomialFunction(new double[] {1.0}),
+			new PolynomialFunction(new double[] {0.0, 1.0}),
+			new PolynomialFunction(new double[] {0.0, 0.0, 1.0}),
+		};
+		PolynomialFunction f = new PolynomialFunction(EXPECTED);
+		UnivariateLsmAccumulator single = new UnivariateLsmAccumulator(basis);
+		UnivariateLsmAccumulator first = new UnivariateLsmAccumulator(basis);
+		UnivariateLsmAccumulator second = new UnivariateLsmAccumulator(basis);
+		for (int i = 0; i < POINTS; i++) {
+			double x = (double) i / POINTS;
+			single.add(x, f.value(x));
+			if (i % 2 == 0) {
+				first.add(x, f.value(x));
+			} else {
+				second.add(x, f.value(x));
+			}
+		}
+		first.merge(second);
+		assertEquals(POINTS, first.getCount());
+		double[] expected = single.solve();
+		double[] actual = first.solve();
+		for (int i = 0; i < EXPECTED.length; i++) {
+			assertEquals(EXPECTED[i], expected[i], DELTA);
+			assertEquals(expected[i], actual[i], DELTA);
+		}
+		single.clear();
+		assertEquals(0, single.getCount());
+	}
+}
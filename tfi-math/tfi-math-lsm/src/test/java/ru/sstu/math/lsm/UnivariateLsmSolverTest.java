@@ -1,6 +1,7 @@
 package ru.sstu.math.lsm;
 
 import org.apache.commons.math.analysis.UnivariateRealFunction;
+import org.apache.commons.math.analysis.polynomials.PolynomialFunction;
 
 import junit.framework.TestCase;
 
@@ -46,4 +47,65 @@ public class UnivariateLsmSolverTest extends TestCase {
 			assertEquals(expected[i], actual[i], delta);
 		}
 	}
+
+	/**
+	 * Tests that all decompositions give the same result.
+	 *
+	 * @throws Exception if error occurs
+	 */
+	public void testDecompositions() throws Exception {
+		final int count = 100;
+		final double[] expected = {1.0, -2.0, 0.5, 0.25};
+		final UnivariateRealFunction[] basis = new UnivariateRealFunction[
+				expected.length];
+		for (int i = 0; i < basis.length; i++) {
+			double[] c = new double[i + 1];
+			c[i] = 1.0;
+			basis[i] = new PolynomialFunction(c);
+		}
+		PolynomialFunction f = new PolynomialFunction(expected);
+		double[][] points = new double[count][];
+		for (int i = 0; i < count; i++) {
+			double x = (double) i / count;
+			points[i] = new double[] {x, f.value(x)};
+		}
+		final double delta = 1e-7;
+		for (LsmDecomposition decomposition : LsmDecomposition.values()) {
+			UnivariateLsmSolver solver = new UnivariateLsmSolverImpl(
+					decomposition);
+			double[] actual = solver.solve(points, basis);
+			for (int i = 0; i < basis.length; i++) {
+				assertEquals(expected[i], actual[i], delta);
+			}
+		}
+	}
+
+	/**
+	 * Tests that points with zero weights are ignored.
+	 *
+	 * @throws Exception if error occurs
+	 */
+	public void testWeights() throws Exception {
+		final double[][] points = {
+			{0.0, 1.0},
+			{1.0, 3.0},
+			{2.0, 10.0},
+			{3.0, 7.0},
+		};
+		final double[] weights = {1.0, 1.0, 0.0, 1.0};
+		final UnivariateRealFunction[] basis = {
+			new PolynomialFunction(new double[] {1.0}),
+			new PolynomialFunction(new double[] {0.0, 1.0}),
+		};
+		final double[] expected = {1.0, 2.0};
+		final double delta = 1e-7;
+		for (LsmDecomposition decomposition : LsmDecomposition.values()) {
+			UnivariateLsmSolverImpl solver = new UnivariateLsmSolverImpl(
+					decomposition);
+			double[] actual = solver.solve(points, weights, basis);
+			for (int i = 0; i < basis.length; i++) {
+				assertEquals(expected[i], actual[i], delta);
+			}
+		}
+	}
 }
@@ -0,0 +1,120 @@
+package ru.sstu.math.optim;
+
+import org.apache.commons.math.optimization.univariate
+		.AbstractUnivariateRealOptimizer;
+
+/**
+ * <code>AbstractUnivariateOptimizer</code> class is base class for univariate
+ * optimizers which can be stopped by time limit or cancellation token.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public abstract class AbstractUnivariateOptimizer
+		extends AbstractUnivariateRealOptimizer {
+
+	/**
+	 * Time limit in milliseconds, 0 means no limit.
+	 */
+	private long timeLimit;
+
+	/**
+	 * Cancellation token.
+	 */
+	private CancellationToken cancellationToken;
+
+	/**
+	 * <code>true</code> if last run was stopped before convergence.
+	 */
+	private boolean stopped;
+
+	/**
+	 * Initializes optimizer.
+	 *
+	 * @param defaultMaximalIterationCount maximum number of iterations
+	 * @param defaultAbsoluteAccuracy      maximum absolute error
+	 */
+	protected AbstractUnivariateOptimizer(int defaultMaximalIterationCount,
+			double defaultAbsoluteAccuracy) {
+		super(defaultMaximalIterationCount, defaultAbsoluteAccuracy);
+	}
+
+	/**
+	 * @return time limit in milliseconds, 0 means no limit
+	 */
+	public long getTimeLimit() {
+		return timeLimit;
+	}
+
+	/**
+	 * Sets wall-clock time limit for each optimization run. When the time is
+	 * over the best point found so far is returned.
+	 *
+	 * @param timeLimit time limit in milliseconds, 0 means no limit
+	 */
+	public void setTimeLimit(long timeLimit) {
+		if (timeLimit < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.timeLimit = timeLimit;
+	}
+
+	/**
+	 * @return cancellation token
+	 */
+	public CancellationToken getCancellationToken() {
+		return cancellationToken;
+	}
+
+	/**
+	 * Sets cancellation token. When cancellation is requested the best point
+	 * found so far is returned.
+	 *
+	 * @param cancellationToken cancellation token
+	 */
+	public void setCancellationToken(CancellationToken cancellationToken) {
+		this.cancellationToken = cancellationToken;
+	}
+
+	/**
+	 * @return <code>true</code> if last run was stopped by time limit or
+	 *         cancellation before required accuracy was reached
+	 */
+	public boolean isStopped() {
+		return stopped;
+	}
+
+	/**
+	 * Starts budget for new optimization run.
+	 *
+	 * @return budget of the run
+	 */
+	protected Budget startBudget() {
+		stopped = false;
+		return new Budget(timeLimit, cancellationToken);
+	}
+
+	/**
+	 * Checks if time limit is over or run was cancelled.
+	 *
+	 * @param budget budget of current run
+	 * @return <code>true</code> if optimization should be stopped
+	 */
+	protected boolean checkBudget(Budget budget) {
+		stopped = budget.isExhausted();
+		return stopped;
+	}
+
+	/**
+	 * Stores optimization result.
+	 *
+	 * @param x     found point
+	 * @param fx    function value at found point
+	 * @param count iterations count
+	 * @return found point
+	 */
+	protected double complete(double x, double fx, int count) {
+		setResult(x, fx, count);
+		return x;
+	}
+}
@@ -0,0 +1,26 @@
+package ru.sstu.math.optim;
+
+/**
+ * <code>BatchConstraint</code> interface represents constraint which can check
+ * many points at once. Optimizers use it to reject whole blocks of candidate
+ * points without calling {@link #checkPoint(double[])} for each of them.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public interface BatchConstraint extends Constraint {
+
+	/**
+	 * Checks block of points. Points are stored one after another in flat
+	 * array, so coordinate <code>j</code> of point <code>i</code> is
+	 * <code>points[i * dimension + j]</code>.
+	 * Flag is set to <code>true</code> for each point which does not satisfy
+	 * the constraint, other flags remain unchanged. Points which are already
+	 * marked may be skipped.
+	 *
+	 * @param points   coordinates of points
+	 * @param count    count of points
+	 * @param failures flags of points which do not satisfy constraints
+	 */
+	void checkPoints(double[] points, int count, boolean[] failures);
+}
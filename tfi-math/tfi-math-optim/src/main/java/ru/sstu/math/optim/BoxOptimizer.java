@@ -33,6 +33,11 @@ public final class BoxOptimizer implements MultivariateRealOptimizer {
 	 */
 	private static final double DEFAULT_ACCURACY = 1.0e-7;
 
+	/**
+	 * Maximal count of candidate points generated at once.
+	 */
+	private static final int BLOCK_SIZE = 64;
+
 	/**
 	 * MultivariateRealFunction to be optimized.
 	 */
@@ -98,6 +103,46 @@ public final class BoxOptimizer implements MultivariateRealOptimizer {
 	 */
 	private Comparator<RealPointValuePair> comparator;
 
+	/**
+	 * Time limit in milliseconds, 0 means no limit.
+	 */
+	private long timeLimit;
+
+	/**
+	 * Cancellation token.
+	 */
+	private CancellationToken cancellationToken;
+
+	/**
+	 * Budget of current run.
+	 */
+	private Budget budget;
+
+	/**
+	 * <code>true</code> if last run was stopped before convergence.
+	 */
+	private boolean stopped;
+
+	/**
+	 * Block of candidate points stored one after another.
+	 */
+	private double[] block;
+
+	/**
+	 * Flags of candidate points which do not satisfy constraints.
+	 */
+	private boolean[] failures;
+
+	/**
+	 * Index of next candidate point in block.
+	 */
+	private int cursor;
+
+	/**
+	 * Count of candidate points in block.
+	 */
+	private int size;
+
 	/**
 	 * Creates new BoxOptimizer instance.
 	 *
@@ -173,6 +218,12 @@ public final class BoxOptimizer implements MultivariateRealOptimizer {
 			throw new IllegalArgumentException();
 		}
 		function = f;
+		budget = new Budget(timeLimit, cancellationToken);
+		stopped = false;
+		block = new double[BLOCK_SIZE * startPoint.length];
+		failures = new boolean[BLOCK_SIZE];
+		cursor = 0;
+		size = 0;
 		setMaxEvaluations(Integer.MAX_VALUE);
 		setMaxIterations(Integer.MAX_VALUE);
 		if (checker == null) {
@@ -197,7 +248,7 @@ public final class BoxOptimizer implements MultivariateRealOptimizer {
 				}
 		};
 		prepareComplex();
-		while (!checker.converged(0, current, current)) {
+		while (!isStopped() && !checker.converged(0, current, current)) {
 			try {
 				if (points[points.length - 1].getValue() < current.getValue()) {
 					compressComplex();
@@ -207,6 +258,10 @@ public final class BoxOptimizer implements MultivariateRealOptimizer {
 			} catch (MathException e) {
 				throw new IllegalArgumentException(e);
 			}
+			checkBudget();
+		}
+		if (isStopped()) {
+			return getBestPoint();
 		}
 		return points[0];
 	}
@@ -225,6 +280,51 @@ public final class BoxOptimizer implements MultivariateRealOptimizer {
 		this.accuracy = accuracy;
 	}
 
+	/**
+	 * @return time limit in milliseconds, 0 means no limit
+	 */
+	public long getTimeLimit() {
+		return timeLimit;
+	}
+
+	/**
+	 * Sets wall-clock time limit for each optimization run. When the time is
+	 * over the best point found so far is returned.
+	 *
+	 * @param timeLimit time limit in milliseconds, 0 means no limit
+	 */
+	public void setTimeLimit(long timeLimit) {
+		if (timeLimit < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.timeLimit = timeLimit;
+	}
+
+	/**
+	 * @return cancellation token
+	 */
+	public CancellationToken getCancellationToken() {
+		return cancellationToken;
+	}
+
+	/**
+	 * Sets cancellation token. When cancellation is requested the best point
+	 * found so far is returned.
+	 *
+	 * @param cancellationToken cancellation token
+	 */
+	public void setCancellationToken(CancellationToken cancellationToken) {
+		this.cancellationToken = cancellationToken;
+	}
+
+	/**
+	 * @return <code>true</code> if last run was stopped by time limit or
+	 *         cancellation before required accuracy was reached
+	 */
+	public boolean isStopped() {
+		return stopped;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -327,7 +427,9 @@ public final class BoxOptimizer implements MultivariateRealOptimizer {
 			for (int i = 0; i < points.length; i++) {
 				points[i] = new RealPointValuePair(current.getPoint(),
 						evaluate(current.getPointRef()));
-				current = generateRandomPoint();
+				if (generateRandomPoint(points.length - i) == null) {
+					return;
+				}
 			}
 			Arrays.sort(points, comparator);
 			calculateCenterPoint();
@@ -357,31 +459,100 @@ public final class BoxOptimizer implements MultivariateRealOptimizer {
 	}
 
 	/**
-	 * @return new generated random point
+	 * Takes next feasible candidate point. New block is generated for no more
+	 * points than still needed, so generator is not advanced past the last
+	 * used point and produces the same sequence as one by one generation.
+	 *
+	 * @param needed count of random points still needed, including this one
+	 * @return new generated random point or <code>null</code> if the budget
+	 *         was exhausted before feasible point was found
 	 * @throws MathException if some error occurs
 	 */
-	private RealPointValuePair generateRandomPoint() throws MathException {
-		boolean failure;
-		double[] point;
-		do {
-			point = generator.nextVector();
-			for (int i = 0; i < point.length; i++) {
-				Interval interval = intervals[i];
-				point[i] = interval.getMin() + point[i] * interval.getWidth();
-			}
-			failure = false;
-			// Checking of implicit constraints
-			for (Constraint constraint : constraints) {
-				if (constraint.checkPoint(point)) {
-					failure = true;
-				}
+	private RealPointValuePair generateRandomPoint(int needed)
+			throws MathException {
+		int index = nextCandidate();
+		while (index < 0) {
+			if (checkBudget()) {
+				return null;
 			}
-		} while (failure);
+			generateBlock(Math.min(needed, BLOCK_SIZE));
+			index = nextCandidate();
+		}
+		double[] point = new double[intervals.length];
+		System.arraycopy(block, index * point.length, point, 0, point.length);
 		double value = evaluate(point);
 		current = new RealPointValuePair(point, value);
 		return current;
 	}
 
+	/**
+	 * Searches for next candidate point which satisfies constraints.
+	 *
+	 * @return index of point in block or -1 if block is over
+	 */
+	private int nextCandidate() {
+		while (cursor < size) {
+			int index = cursor++;
+			if (!failures[index]) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Generates new block of candidate points and checks implicit constraints
+	 * for all of them.
+	 *
+	 * @param count count of points
+	 */
+	private void generateBlock(int count) {
+		size = count;
+		int dimension = intervals.length;
+		if (generator instanceof UniformGenerator) {
+			((UniformGenerator) generator).fill(block, size);
+		} else {
+			for (int k = 0; k < size; k++) {
+				System.arraycopy(generator.nextVector(), 0, block,
+						k * dimension, dimension);
+			}
+		}
+		for (int k = 0; k < size; k++) {
+			int offset = k * dimension;
+			for (int i = 0; i < dimension; i++) {
+				Interval interval = intervals[i];
+				block[offset + i] = interval.getMin()
+						+ block[offset + i] * interval.getWidth();
+			}
+		}
+		Arrays.fill(failures, false);
+		for (Constraint constraint : constraints) {
+			if (constraint instanceof BatchConstraint) {
+				((BatchConstraint) constraint).checkPoints(block, size,
+						failures);
+			} else {
+				checkPoints(constraint);
+			}
+		}
+		cursor = 0;
+	}
+
+	/**
+	 * Checks block of candidate points one by one.
+	 *
+	 * @param constraint constraint which cannot check many points at once
+	 */
+	private void checkPoints(Constraint constraint) {
+		int dimension = intervals.length;
+		double[] point = new double[dimension];
+		for (int k = 0; k < size; k++) {
+			if (!failures[k]) {
+				System.arraycopy(block, k * dimension, point, 0, dimension);
+				failures[k] = constraint.checkPoint(point);
+			}
+		}
+	}
+
 	/**
 	 * Compressing of complex by moving the point to the center.
 	 *
@@ -418,12 +589,64 @@ public final class BoxOptimizer implements MultivariateRealOptimizer {
 		}
 		for (Constraint constraint : constraints) {
 			while (constraint.checkPoint(current.getPoint())) {
+				if (checkBudget()) {
+					return false;
+				}
 				current = moveToCenter(current, center);
 			}
 		}
 		return true;
 	}
 
+	/**
+	 * Checks if time limit is over or run was cancelled.
+	 *
+	 * @return <code>true</code> if optimization should be stopped
+	 */
+	private boolean checkBudget() {
+		if (!stopped && budget.isExhausted()) {
+			stopped = true;
+		}
+		return stopped;
+	}
+
+	/**
+	 * Provides the best feasible point found so far. It is used when
+	 * optimization was stopped before convergence.
+	 *
+	 * @return best point
+	 */
+	private RealPointValuePair getBestPoint() {
+		RealPointValuePair best = null;
+		for (RealPointValuePair point : points) {
+			if (point != null
+					&& (best == null || comparator.compare(point, best) < 0)) {
+				best = point;
+			}
+		}
+		if (best == null || comparator.compare(current, best) < 0
+				&& isFeasible(current.getPoint())) {
+			best = current;
+		}
+		return best;
+	}
+
+	/**
+	 * @param point point to check
+	 * @return <code>true</code> if point satisfies all constraints
+	 */
+	private boolean isFeasible(double[] point) {
+		if (checkPoint(point)) {
+			return false;
+		}
+		for (Constraint constraint : constraints) {
+			if (constraint.checkPoint(point)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * @param point point to check
 	 * @return true if point does not satisfies the constraint
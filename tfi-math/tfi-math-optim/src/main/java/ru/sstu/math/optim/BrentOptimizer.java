@@ -0,0 +1,233 @@
+package ru.sstu.math.optim;
+
+import org.apache.commons.math.FunctionEvaluationException;
+import org.apache.commons.math.MaxIterationsExceededException;
+import org.apache.commons.math.analysis.UnivariateRealFunction;
+import org.apache.commons.math.optimization.GoalType;
+
+/**
+ * <code>BrentOptimizer</code> class optimize functions using Brent method.
+ * It combines parabolic interpolation with "golden section" steps, so it
+ * converges much faster than {@link GoldenSectionOptimizer} on smooth
+ * functions.
+ * Important! The class is not thread safe!
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public class BrentOptimizer extends AbstractUnivariateOptimizer {
+
+	/**
+	 * Constant for Golden Section (3 - sqrt(5)) / 2.
+	 */
+	private static final double MINOR = 0.38196601125010515179541316563436;
+
+	/**
+	 * Default count of iterations.
+	 */
+	private static final int DEFAULT_ITERATIONS = 100;
+
+	/**
+	 * Default accuracy.
+	 */
+	private static final double DEFAULT_ACCURACY = 1E-10;
+
+	/**
+	 * Left end of current interval.
+	 */
+	private double a;
+
+	/**
+	 * Right end of current interval.
+	 */
+	private double b;
+
+	/**
+	 * The best point found so far.
+	 */
+	private double x;
+
+	/**
+	 * The second best point.
+	 */
+	private double w;
+
+	/**
+	 * Previous value of the second best point.
+	 */
+	private double v;
+
+	/**
+	 * Value at <code>x</code>, negated for maximization.
+	 */
+	private double fx;
+
+	/**
+	 * Value at <code>w</code>, negated for maximization.
+	 */
+	private double fw;
+
+	/**
+	 * Value at <code>v</code>, negated for maximization.
+	 */
+	private double fv;
+
+	/**
+	 * Current step.
+	 */
+	private double d;
+
+	/**
+	 * Step before the previous one.
+	 */
+	private double e;
+
+	/**
+	 * Creates new instance of optimizer.
+	 */
+	public BrentOptimizer() {
+		super(DEFAULT_ITERATIONS, DEFAULT_ACCURACY);
+	}
+
+	/**
+	 * Creates new instance of optimizer.
+	 *
+	 * @param delta delta
+	 */
+	public BrentOptimizer(double delta) {
+		super(DEFAULT_ITERATIONS, delta);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double optimize(final UnivariateRealFunction f,
+			final GoalType goalType, final double min, final double max)
+			throws MaxIterationsExceededException, FunctionEvaluationException {
+		return optimize(f, goalType, min, max, min + MINOR * (max - min));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double optimize(final UnivariateRealFunction f,
+			final GoalType goalType, final double min, final double max,
+			final double startValue)
+			throws MaxIterationsExceededException, FunctionEvaluationException {
+		if (max < min || startValue < min || startValue > max) {
+			throw new IllegalArgumentException();
+		}
+		clearResult();
+		Budget budget = startBudget();
+		final double sign = (goalType == GoalType.MAXIMIZE) ? -1.0 : 1.0;
+		a = min;
+		b = max;
+		x = startValue;
+		w = x;
+		v = x;
+		fx = sign * computeObjectiveValue(f, x);
+		fw = fx;
+		fv = fx;
+		d = 0.0;
+		e = 0.0;
+		for (int count = 0; count < maximalIterationCount; count++) {
+			double middle = (a + b) / 2;
+			double tol = relativeAccuracy * Math.abs(x) + absoluteAccuracy;
+			if (checkBudget(budget)
+					|| Math.abs(x - middle) <= 2 * tol - (b - a) / 2) {
+				return complete(x, sign * fx, count);
+			}
+			double u = nextPoint(middle, tol);
+			update(u, sign * computeObjectiveValue(f, u));
+		}
+		throw new MaxIterationsExceededException(maximalIterationCount);
+	}
+
+	/**
+	 * Provides next point to be evaluated.
+	 *
+	 * @param middle middle of current interval
+	 * @param tol    current tolerance
+	 * @return next point
+	 */
+	private double nextPoint(double middle, double tol) {
+		if (Math.abs(e) <= tol || !interpolate(middle, tol)) {
+			e = ((x < middle) ? b : a) - x;
+			d = MINOR * e;
+		}
+		if (Math.abs(d) >= tol) {
+			return x + d;
+		}
+		return (d > 0) ? x + tol : x - tol;
+	}
+
+	/**
+	 * Tries to make parabolic interpolation step using points
+	 * <code>x</code>, <code>w</code> and <code>v</code>.
+	 *
+	 * @param middle middle of current interval
+	 * @param tol    current tolerance
+	 * @return <code>true</code> if parabolic step is acceptable
+	 */
+	private boolean interpolate(double middle, double tol) {
+		double r = (x - w) * (fx - fv);
+		double q = (x - v) * (fx - fw);
+		double p = (x - v) * q - (x - w) * r;
+		q = 2 * (q - r);
+		if (q > 0) {
+			p = -p;
+		} else {
+			q = -q;
+		}
+		double previous = e;
+		e = d;
+		if (Math.abs(p) >= Math.abs(q * previous / 2)
+				|| p <= q * (a - x) || p >= q * (b - x)) {
+			return false;
+		}
+		d = p / q;
+		double u = x + d;
+		// Function must not be evaluated too close to interval ends
+		if (u - a < 2 * tol || b - u < 2 * tol) {
+			d = (x < middle) ? tol : -tol;
+		}
+		return true;
+	}
+
+	/**
+	 * Updates interval and best points with new evaluated point.
+	 *
+	 * @param u  new point
+	 * @param fu value at new point, negated for maximization
+	 */
+	private void update(double u, double fu) {
+		if (fu <= fx) {
+			if (u < x) {
+				b = x;
+			} else {
+				a = x;
+			}
+			v = w;
+			fv = fw;
+			w = x;
+			fw = fx;
+			x = u;
+			fx = fu;
+			return;
+		}
+		if (u < x) {
+			a = u;
+		} else {
+			b = u;
+		}
+		if (fu <= fw || w == x) {
+			v = w;
+			fv = fw;
+			w = u;
+			fw = fu;
+		} else if (fu <= fv || v == x || v == w) {
+			v = u;
+			fv = fu;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package ru.sstu.math.optim;
+
+/**
+ * <code>Budget</code> class holds wall-clock deadline and cancellation token
+ * of single optimization run.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+final class Budget {
+
+	/**
+	 * Count of nanoseconds in millisecond.
+	 */
+	private static final long NANOS_PER_MILLI = 1000000L;
+
+	/**
+	 * Deadline in terms of {@link System#nanoTime()}.
+	 */
+	private final long deadline;
+
+	/**
+	 * <code>true</code> if run has deadline.
+	 */
+	private final boolean limited;
+
+	/**
+	 * Cancellation token, may be <code>null</code>.
+	 */
+	private final CancellationToken token;
+
+	/**
+	 * Starts new budget.
+	 *
+	 * @param timeLimit time limit in milliseconds, 0 means no limit
+	 * @param token     cancellation token, may be <code>null</code>
+	 */
+	Budget(long timeLimit, CancellationToken token) {
+		if (timeLimit < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.limited = timeLimit > 0;
+		this.deadline = System.nanoTime() + timeLimit * NANOS_PER_MILLI;
+		this.token = token;
+	}
+
+	/**
+	 * @return <code>true</code> if time is over or run was cancelled
+	 */
+	boolean isExhausted() {
+		if (token != null && token.isCancelled()) {
+			return true;
+		}
+		return limited && System.nanoTime() - deadline >= 0;
+	}
+}
@@ -0,0 +1,31 @@
+package ru.sstu.math.optim;
+
+/**
+ * <code>CancellationToken</code> class allows to stop running optimization
+ * from another thread. Optimizer checks the token between iterations and
+ * returns the best point found so far.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public class CancellationToken {
+
+	/**
+	 * Cancellation flag.
+	 */
+	private volatile boolean cancelled;
+
+	/**
+	 * Requests cancellation of optimization.
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * @return <code>true</code> if cancellation was requested
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+}
@@ -4,8 +4,6 @@ import org.apache.commons.math.FunctionEvaluationException;
 import org.apache.commons.math.MaxIterationsExceededException;
 import org.apache.commons.math.analysis.UnivariateRealFunction;
 import org.apache.commons.math.optimization.GoalType;
-import org.apache.commons.math.optimization.univariate
-		.AbstractUnivariateRealOptimizer;
 
 /**
  * <code>GoldenSectionOptimizer</code> class optimize functions using "golden
@@ -14,7 +12,7 @@ import org.apache.commons.math.optimization.univariate
  * @author Denis A. Murashev
  * @since Math 1.0
  */
-public class GoldenSectionOptimizer extends AbstractUnivariateRealOptimizer {
+public class GoldenSectionOptimizer extends AbstractUnivariateOptimizer {
 
 	/**
 	 * Constant for Golden Section (sqrt(5) - 1) / 2.
@@ -69,17 +67,20 @@ public class GoldenSectionOptimizer extends AbstractUnivariateRealOptimizer {
 			final GoalType goalType, final double min, final double max)
 			throws MaxIterationsExceededException, FunctionEvaluationException {
 		clearResult();
+		Budget budget = startBudget();
+		final double sign = (goalType == GoalType.MAXIMIZE) ? -1.0 : 1.0;
 		Interval interval = new Interval(min, max);
 		double left = min + MINOR * interval.getWidth();
 		double right = min + MAJOR * interval.getWidth();
-		double leftValue = computeObjectiveValue(f, left);
-		double rightValue = computeObjectiveValue(f, right);
-		if (goalType == GoalType.MAXIMIZE) {
-			leftValue = -leftValue;
-			rightValue = -rightValue;
-		}
+		double leftValue = sign * computeObjectiveValue(f, left);
+		double rightValue = sign * computeObjectiveValue(f, right);
 		int count = 0;
 		while (count < maximalIterationCount) {
+			if (checkBudget(budget)) {
+				double fx = Math.min(leftValue, rightValue);
+				return complete(leftValue < rightValue ? left : right,
+						sign * fx, count);
+			}
 			// Check stopping criterion.
 			if ((right - left) > absoluteAccuracy) {
 				if (leftValue < rightValue) {
@@ -87,19 +88,17 @@ public class GoldenSectionOptimizer extends AbstractUnivariateRealOptimizer {
 					right = left;
 					rightValue = leftValue;
 					left = interval.getMin() + MINOR * interval.getWidth();
-					leftValue = computeObjectiveValue(f, left);
+					leftValue = sign * computeObjectiveValue(f, left);
 				} else {
 					interval.setMin(left);
 					left = right;
 					leftValue = rightValue;
 					right = interval.getMin() + MAJOR * interval.getWidth();
-					rightValue = computeObjectiveValue(f, right);
+					rightValue = sign * computeObjectiveValue(f, right);
 				}
 			} else { // termination
 				double x = (left + right) / 2;
-				double fx = computeObjectiveValue(f, x);
-				setResult(x, (goalType == GoalType.MAXIMIZE) ? -fx : fx, count);
-				return x;
+				return complete(x, computeObjectiveValue(f, x), count);
 			}
 			++count;
 		}
@@ -0,0 +1,326 @@
+package ru.sstu.math.optim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.math.ConvergenceException;
+import org.apache.commons.math.FunctionEvaluationException;
+import org.apache.commons.math.analysis.UnivariateRealFunction;
+import org.apache.commons.math.optimization.GoalType;
+import org.apache.commons.math.optimization.UnivariateRealOptimizer;
+
+/**
+ * <code>GridBracketingOptimizer</code> class evaluates function on coarse
+ * uniform grid first, and then refines the best grid node with given
+ * optimizer inside the bracket formed by neighbour nodes. So the global
+ * optimum is found even if function is not unimodal on the whole interval.
+ * If {@link ExecutorService} is given grid is evaluated in parallel, the
+ * function must be thread safe in this case.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public class GridBracketingOptimizer implements UnivariateRealOptimizer {
+
+	/**
+	 * Optimizer used for refinement.
+	 */
+	private final UnivariateRealOptimizer optimizer;
+
+	/**
+	 * Count of grid intervals.
+	 */
+	private final int gridSize;
+
+	/**
+	 * Executor for parallel grid evaluation, may be <code>null</code>.
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * Count of evaluations on the grid during last run.
+	 */
+	private int gridEvaluations;
+
+	/**
+	 * Creates optimizer which evaluates grid in the calling thread.
+	 *
+	 * @param optimizer optimizer used for refinement
+	 * @param gridSize  count of grid intervals
+	 */
+	public GridBracketingOptimizer(UnivariateRealOptimizer optimizer,
+			int gridSize) {
+		this(optimizer, gridSize, null);
+	}
+
+	/**
+	 * Creates optimizer which evaluates grid in parallel.
+	 *
+	 * @param optimizer optimizer used for refinement
+	 * @param gridSize  count of grid intervals
+	 * @param executor  executor for grid evaluation
+	 */
+	public GridBracketingOptimizer(UnivariateRealOptimizer optimizer,
+			int gridSize, ExecutorService executor) {
+		if (optimizer == null || gridSize < 2) {
+			throw new IllegalArgumentException();
+		}
+		this.optimizer = optimizer;
+		this.gridSize = gridSize;
+		this.executor = executor;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double optimize(UnivariateRealFunction f, GoalType goalType,
+			double min, double max)
+			throws ConvergenceException, FunctionEvaluationException {
+		if (max < min) {
+			throw new IllegalArgumentException();
+		}
+		double step = (max - min) / gridSize;
+		double[] values = evaluateGrid(f, min, step);
+		int best = 0;
+		for (int i = 1; i < values.length; i++) {
+			if (goalType == GoalType.MINIMIZE ? values[i] < values[best]
+					: values[i] > values[best]) {
+				best = i;
+			}
+		}
+		double left = min + Math.max(best - 1, 0) * step;
+		double right = min + Math.min(best + 1, gridSize) * step;
+		return optimizer.optimize(f, goalType, left, right,
+				min + best * step);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double optimize(UnivariateRealFunction f, GoalType goalType,
+			double min, double max, double startValue)
+			throws ConvergenceException, FunctionEvaluationException {
+		return optimize(f, goalType, min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double getResult() {
+		return optimizer.getResult();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double getFunctionValue() throws FunctionEvaluationException {
+		return optimizer.getFunctionValue();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void setMaxEvaluations(int maxEvaluations) {
+		optimizer.setMaxEvaluations(maxEvaluations);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getMaxEvaluations() {
+		return optimizer.getMaxEvaluations();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getEvaluations() {
+		return gridEvaluations + optimizer.getEvaluations();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void setMaximalIterationCount(int count) {
+		optimizer.setMaximalIterationCount(count);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getMaximalIterationCount() {
+		return optimizer.getMaximalIterationCount();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void resetMaximalIterationCount() {
+		optimizer.resetMaximalIterationCount();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void setAbsoluteAccuracy(double accuracy) {
+		optimizer.setAbsoluteAccuracy(accuracy);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double getAbsoluteAccuracy() {
+		return optimizer.getAbsoluteAccuracy();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void resetAbsoluteAccuracy() {
+		optimizer.resetAbsoluteAccuracy();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void setRelativeAccuracy(double accuracy) {
+		optimizer.setRelativeAccuracy(accuracy);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double getRelativeAccuracy() {
+		return optimizer.getRelativeAccuracy();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void resetRelativeAccuracy() {
+		optimizer.resetRelativeAccuracy();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getIterationCount() {
+		return optimizer.getIterationCount();
+	}
+
+	/**
+	 * Evaluates function in grid nodes.
+	 *
+	 * @param f    function
+	 * @param min  first node
+	 * @param step grid step
+	 * @return function values
+	 * @throws FunctionEvaluationException if cannot evaluate function
+	 */
+	private double[] evaluateGrid(UnivariateRealFunction f, double min,
+			double step) throws FunctionEvaluationException {
+		double[] values = new double[gridSize + 1];
+		gridEvaluations = values.length;
+		if (executor == null) {
+			new GridTask(f, values, min, step, 0, values.length).call();
+			return values;
+		}
+		int tasks = Math.min(values.length,
+				Runtime.getRuntime().availableProcessors());
+		List<Future<Void>> futures = new ArrayList<Future<Void>>(tasks);
+		for (int i = 0; i < tasks; i++) {
+			int from = i * values.length / tasks;
+			int to = (i + 1) * values.length / tasks;
+			futures.add(executor.submit(
+					new GridTask(f, values, min, step, from, to)));
+		}
+		try {
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof FunctionEvaluationException) {
+				throw (FunctionEvaluationException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			for (Future<Void> future : futures) {
+				future.cancel(true);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * <code>GridTask</code> class evaluates function in range of grid nodes.
+	 */
+	private static final class GridTask implements Callable<Void> {
+
+		/**
+		 * Function.
+		 */
+		private final UnivariateRealFunction f;
+
+		/**
+		 * Values of all grid nodes.
+		 */
+		private final double[] values;
+
+		/**
+		 * First grid node.
+		 */
+		private final double min;
+
+		/**
+		 * Grid step.
+		 */
+		private final double step;
+
+		/**
+		 * First node index (inclusive).
+		 */
+		private final int from;
+
+		/**
+		 * Last node index (exclusive).
+		 */
+		private final int to;
+
+		/**
+		 * Creates task.
+		 *
+		 * @param f      function
+		 * @param values values of all grid nodes
+		 * @param min    first grid node
+		 * @param step   grid step
+		 * @param from   first node index (inclusive)
+		 * @param to     last node index (exclusive)
+		 */
+		private GridTask(UnivariateRealFunction f, double[] values,
+				double min, double step, int from, int to) {
+			this.f = f;
+			this.values = values;
+			this.min = min;
+			this.step = step;
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public Void call() throws FunctionEvaluationException {
+			for (int i = from; i < to; i++) {
+				values[i] = f.value(min + i * step);
+			}
+			return null;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package ru.sstu.math.optim;
+
+/**
+ * <code>LinearInequalityConstraint</code> class represents system of linear
+ * inequalities <code>A * x &lt;= b</code>. Coefficients are stored in dense
+ * row-major array, so block of points is checked in tight loops without
+ * any intermediate objects.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public class LinearInequalityConstraint implements BatchConstraint {
+
+	/**
+	 * Coefficients matrix stored row by row.
+	 */
+	private final double[] coefficients;
+
+	/**
+	 * Right hand side values.
+	 */
+	private final double[] bounds;
+
+	/**
+	 * Space dimension.
+	 */
+	private final int dimension;
+
+	/**
+	 * Creates system of inequalities <code>A * x &lt;= b</code>.
+	 *
+	 * @param a coefficients matrix, one row per inequality
+	 * @param b right hand side values
+	 */
+	public LinearInequalityConstraint(double[][] a, double[] b) {
+		if (a.length == 0 || a.length != b.length) {
+			throw new IllegalArgumentException();
+		}
+		dimension = a[0].length;
+		coefficients = new double[a.length * dimension];
+		for (int i = 0; i < a.length; i++) {
+			if (a[i].length != dimension) {
+				throw new IllegalArgumentException();
+			}
+			System.arraycopy(a[i], 0, coefficients, i * dimension, dimension);
+		}
+		bounds = b.clone();
+	}
+
+	/**
+	 * @return space dimension
+	 */
+	public int getDimension() {
+		return dimension;
+	}
+
+	/**
+	 * @return count of inequalities
+	 */
+	public int getInequalities() {
+		return bounds.length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean checkPoint(double[] point) {
+		if (point.length != dimension) {
+			throw new IllegalArgumentException();
+		}
+		for (int i = 0; i < bounds.length; i++) {
+			if (product(i, point, 0) > bounds[i]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void checkPoints(double[] points, int count, boolean[] failures) {
+		if (points.length < count * dimension || failures.length < count) {
+			throw new IllegalArgumentException();
+		}
+		// Row by row, so each row stays in cache for the whole block
+		for (int i = 0; i < bounds.length; i++) {
+			double bound = bounds[i];
+			for (int k = 0; k < count; k++) {
+				if (!failures[k]
+						&& product(i, points, k * dimension) > bound) {
+					failures[k] = true;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Calculates product of matrix row and point.
+	 *
+	 * @param row    row index
+	 * @param points array with point coordinates
+	 * @param offset offset of point in array
+	 * @return product
+	 */
+	private double product(int row, double[] points, int offset) {
+		int start = row * dimension;
+		double sum = 0.0;
+		for (int j = 0; j < dimension; j++) {
+			sum += coefficients[start + j] * points[offset + j];
+		}
+		return sum;
+	}
+}
@@ -4,6 +4,9 @@ import junit.framework.TestCase;
 
 import org.apache.commons.math.analysis.MultivariateRealFunction;
 import org.apache.commons.math.optimization.GoalType;
+import org.apache.commons.math.random.RandomVectorGenerator;
+
+import ru.sstu.math.uniform.UniformGenerator;
 
 /**
  * Unit tests for {@link BoxOptimizer} class.
@@ -55,5 +58,136 @@ public class BoxOptimizerTest extends TestCase {
 				new double[]{1.0, 1.0}).getPoint();
 		assertEquals(lineConstraint / 2, point[0], sigma);
 		assertEquals(lineConstraint / 2, point[1], sigma);
+		assertFalse(optimizer.isStopped());
+	}
+
+	/**
+	 * Tests optimization with linear constraints checked in blocks.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testLinearConstraint() throws Exception {
+		final double lineConstraint = 0.1;
+		final Interval[] intervals = {
+			new Interval(-1.0, 1.0),
+			new Interval(-1.0, 1.0),
+		};
+		// x + y >= lineConstraint, x <= 1
+		final double[][] a = {
+			{-1.0, -1.0},
+			{1.0, 0.0},
+		};
+		final double[] b = {-lineConstraint, 1.0};
+		final Constraint[] constraints = {
+			new LinearInequalityConstraint(a, b),
+		};
+		BoxOptimizer optimizer = BoxOptimizer.getBoxOptimizer(intervals,
+				constraints);
+		final double sigma = 1e-5;
+		optimizer.setAccuracy(sigma);
+		double[] point = optimizer.optimize(FUNCTION, GoalType.MINIMIZE,
+				new double[]{1.0, 1.0}).getPoint();
+		assertEquals(lineConstraint / 2, point[0], sigma);
+		assertEquals(lineConstraint / 2, point[1], sigma);
+	}
+
+	/**
+	 * Tests that candidate points are taken from generator one by one, so
+	 * generator is not advanced past the last used point and repeated runs
+	 * continue the same sequence.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testGeneratorSequence() throws Exception {
+		final double lineConstraint = 0.1;
+		final Interval[] intervals = {
+			new Interval(-1.0, 1.0),
+			new Interval(-1.0, 1.0),
+		};
+		final Constraint[] constraints = {
+			new Constraint() {
+
+				public boolean checkPoint(double[] point) {
+					return point[0] + point[1] <= lineConstraint;
+				}
+			},
+		};
+		RandomVectorGenerator generator
+				= UniformGenerator.getLPTauGenerator(intervals.length);
+		BoxOptimizer optimizer = BoxOptimizer.getBoxOptimizer(intervals,
+				constraints, generator);
+		final double[] start = {1.0, 1.0};
+		final int runs = 3;
+		for (int i = 0; i < runs; i++) {
+			optimizer.optimize(FUNCTION, GoalType.MINIMIZE, start);
+		}
+		// Complex has two points per dimension, each of them is drawn
+		// until it satisfies the constraint
+		RandomVectorGenerator reference
+				= UniformGenerator.getLPTauGenerator(intervals.length);
+		for (int i = 0; i < runs * 2 * intervals.length; i++) {
+			double[] point;
+			do {
+				point = reference.nextVector();
+			} while (constraints[0].checkPoint(scale(intervals, point)));
+		}
+		double[] expected = reference.nextVector();
+		double[] actual = generator.nextVector();
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], actual[i], 0.0);
+		}
+	}
+
+	/**
+	 * Tests that optimization is stopped when time limit is over.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testTimeLimit() throws Exception {
+		final Interval[] intervals = {
+			new Interval(-1.0, 1.0),
+			new Interval(-1.0, 1.0),
+		};
+		BoxOptimizer optimizer = BoxOptimizer.getBoxOptimizer(intervals);
+		// Zero accuracy is never reached
+		optimizer.setAccuracy(0.0);
+		final long timeLimit = 100;
+		optimizer.setTimeLimit(timeLimit);
+		final double[] start = {1.0, 1.0};
+		double[] point = optimizer.optimize(FUNCTION, GoalType.MINIMIZE,
+				start).getPoint();
+		assertTrue(optimizer.isStopped());
+		assertTrue(FUNCTION.value(point) < FUNCTION.value(start));
+	}
+
+	/**
+	 * Tests that cancelled optimization returns feasible point.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testCancellation() throws Exception {
+		final Interval[] intervals = {
+			new Interval(-1.0, 1.0),
+			new Interval(-1.0, 1.0),
+		};
+		BoxOptimizer optimizer = BoxOptimizer.getBoxOptimizer(intervals);
+		CancellationToken token = new CancellationToken();
+		token.cancel();
+		optimizer.setCancellationToken(token);
+		final double[] start = {1.0, 1.0};
+		double[] point = optimizer.optimize(FUNCTION, GoalType.MINIMIZE,
+				start).getPoint();
+		assertTrue(optimizer.isStopped());
+		assertEquals(start[0], point[0]);
+		assertEquals(start[1], point[1]);
+	}
+
+	private static double[] scale(Interval[] intervals, double[] point) {
+		double[] scaled = new double[point.length];
+		for (int i = 0; i < point.length; i++) {
+			scaled[i] = intervals[i].getMin()
+					+ point[i] * intervals[i].getWidth();
+		}
+		return scaled;
 	}
 }
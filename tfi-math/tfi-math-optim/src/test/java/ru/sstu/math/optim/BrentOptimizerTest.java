@@ -0,0 +1,73 @@
+package ru.sstu.math.optim;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.math.analysis.UnivariateRealFunction;
+import org.apache.commons.math.optimization.GoalType;
+import org.apache.commons.math.optimization.UnivariateRealOptimizer;
+
+/**
+ * <code>BrentOptimizerTest</code> class tests {@link BrentOptimizer} class.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public class BrentOptimizerTest extends TestCase {
+
+	/**
+	 * Delta.
+	 */
+	private static final double DELTA = 1e-7;
+
+	/**
+	 * Test function.
+	 */
+	private static final UnivariateRealFunction FUNCTION =
+		new UnivariateRealFunction() {
+			public double value(double x) {
+				return Math.exp(x) - 2 * x;
+			}
+		};
+
+	/**
+	 * Tests minimization.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testMinimize() throws Exception {
+		UnivariateRealOptimizer optimizer = new BrentOptimizer(DELTA);
+		assertEquals(Math.log(2.0),
+				optimizer.optimize(FUNCTION, GoalType.MINIMIZE, 0.0, 2.0),
+				DELTA);
+		assertEquals(FUNCTION.value(Math.log(2.0)),
+				optimizer.getFunctionValue(), DELTA);
+	}
+
+	/**
+	 * Tests maximization.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testMaximize() throws Exception {
+		UnivariateRealOptimizer optimizer = new BrentOptimizer(DELTA);
+		assertEquals(Math.PI / 2,
+				optimizer.optimize(new UnivariateRealFunction() {
+					public double value(double x) {
+						return Math.sin(x);
+					}
+				}, GoalType.MAXIMIZE, 0.0, 2.0), DELTA);
+	}
+
+	/**
+	 * Tests that Brent method needs less evaluations than golden section.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testEvaluations() throws Exception {
+		UnivariateRealOptimizer brent = new BrentOptimizer();
+		UnivariateRealOptimizer golden = new GoldenSectionOptimizer();
+		brent.optimize(FUNCTION, GoalType.MINIMIZE, 0.0, 2.0);
+		golden.optimize(FUNCTION, GoalType.MINIMIZE, 0.0, 2.0);
+		assertTrue(brent.getEvaluations() < golden.getEvaluations());
+	}
+}
@@ -41,4 +41,65 @@ public class GoldenSectionOptimizerTest extends TestCase {
 				optimizer.optimize(FUNCTION, GoalType.MINIMIZE, 0.0, 2.0),
 				DELTA);
 	}
+
+	/**
+	 * Tests maximization. Function value is value of the function itself,
+	 * as for {@link BrentOptimizer}.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testMaximize() throws Exception {
+		GoldenSectionOptimizer optimizer = new GoldenSectionOptimizer(DELTA);
+		final double top = 5.0;
+		final double max = 3.0;
+		UnivariateRealFunction function = new UnivariateRealFunction() {
+			public double value(double x) {
+				return top - (x - 1) * (x - 1);
+			}
+		};
+		assertEquals(1.0,
+				optimizer.optimize(function, GoalType.MAXIMIZE, 0.0, max),
+				DELTA);
+		assertEquals(top, optimizer.getFunctionValue(), DELTA);
+	}
+
+	/**
+	 * Tests that maximization stopped by budget returns the best of
+	 * evaluated points.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testMaximizeCancellation() throws Exception {
+		GoldenSectionOptimizer optimizer = new GoldenSectionOptimizer(DELTA);
+		CancellationToken token = new CancellationToken();
+		token.cancel();
+		optimizer.setCancellationToken(token);
+		UnivariateRealFunction function = new UnivariateRealFunction() {
+			public double value(double x) {
+				return x;
+			}
+		};
+		double x = optimizer.optimize(function, GoalType.MAXIMIZE, 0.0, 2.0);
+		assertTrue(optimizer.isStopped());
+		// The right one of two initial points is the best
+		final double major = 0.6180339887498949;
+		assertEquals(2 * major, x, DELTA);
+		assertEquals(x, optimizer.getFunctionValue(), DELTA);
+	}
+
+	/**
+	 * Tests that cancelled optimization returns point from the interval.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testCancellation() throws Exception {
+		GoldenSectionOptimizer optimizer = new GoldenSectionOptimizer(DELTA);
+		CancellationToken token = new CancellationToken();
+		token.cancel();
+		optimizer.setCancellationToken(token);
+		double x = optimizer.optimize(FUNCTION, GoalType.MINIMIZE, 0.0, 2.0);
+		assertTrue(optimizer.isStopped());
+		assertTrue(x > 0.0 && x < 2.0);
+		assertEquals(FUNCTION.value(x), optimizer.getFunctionValue(), DELTA);
+	}
 }
@@ -0,0 +1,80 @@
+package ru.sstu.math.optim;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.math.analysis.UnivariateRealFunction;
+import org.apache.commons.math.optimization.GoalType;
+import org.apache.commons.math.optimization.UnivariateRealOptimizer;
+
+/**
+ * <code>GridBracketingOptimizerTest</code> class tests
+ * {@link GridBracketingOptimizer} class.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public class GridBracketingOptimizerTest extends TestCase {
+
+	/**
+	 * Delta.
+	 */
+	private static final double DELTA = 1e-7;
+
+	/**
+	 * Grid size.
+	 */
+	private static final int GRID_SIZE = 20;
+
+	/**
+	 * Left end of interval.
+	 */
+	private static final double MIN = -3.0;
+
+	/**
+	 * Right end of interval.
+	 */
+	private static final double MAX = 1.9;
+
+	/**
+	 * Multimodal test function with global minimum at x = 0.
+	 */
+	private static final UnivariateRealFunction FUNCTION =
+		new UnivariateRealFunction() {
+			public double value(double x) {
+				return x * x - Math.cos(2 * Math.PI * x);
+			}
+		};
+
+	/**
+	 * Tests sequential grid evaluation.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testSequential() throws Exception {
+		UnivariateRealOptimizer optimizer = new GridBracketingOptimizer(
+				new BrentOptimizer(DELTA), GRID_SIZE);
+		assertEquals(0.0, optimizer.optimize(FUNCTION, GoalType.MINIMIZE,
+				MIN, MAX), DELTA);
+		assertTrue(optimizer.getEvaluations() > GRID_SIZE);
+	}
+
+	/**
+	 * Tests parallel grid evaluation.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testParallel() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			UnivariateRealOptimizer optimizer = new GridBracketingOptimizer(
+					new GoldenSectionOptimizer(DELTA), GRID_SIZE, executor);
+			assertEquals(0.0, optimizer.optimize(FUNCTION, GoalType.MINIMIZE,
+					MIN, MAX), DELTA);
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
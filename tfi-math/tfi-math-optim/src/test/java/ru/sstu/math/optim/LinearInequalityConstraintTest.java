@@ -0,0 +1,65 @@
+package ru.sstu.math.optim;
+
+import junit.framework.TestCase;
+
+/**
+ * <code>LinearInequalityConstraintTest</code> class tests
+ * {@link LinearInequalityConstraint} class.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public class LinearInequalityConstraintTest extends TestCase {
+
+	/**
+	 * Unit square 0 &lt;= x, y &lt;= 1.
+	 */
+	private static final LinearInequalityConstraint SQUARE =
+		new LinearInequalityConstraint(new double[][] {
+			{1.0, 0.0},
+			{-1.0, 0.0},
+			{0.0, 1.0},
+			{0.0, -1.0},
+		}, new double[] {1.0, 0.0, 1.0, 0.0});
+
+	/**
+	 * Test points.
+	 */
+	private static final double[] POINTS = {
+		0.5, 0.5,
+		1.0, 0.0,
+		1.5, 0.5,
+		0.5, -0.5,
+		-0.1, 2.0,
+	};
+
+	/**
+	 * Expected check results for test points.
+	 */
+	private static final boolean[] FAILURES = {false, false, true, true, true};
+
+	/**
+	 * Tests single point check.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testCheckPoint() throws Exception {
+		for (int i = 0; i < FAILURES.length; i++) {
+			double[] point = {POINTS[2 * i], POINTS[2 * i + 1]};
+			assertEquals(FAILURES[i], SQUARE.checkPoint(point));
+		}
+	}
+
+	/**
+	 * Tests block check.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testCheckPoints() throws Exception {
+		boolean[] failures = new boolean[FAILURES.length];
+		SQUARE.checkPoints(POINTS, FAILURES.length, failures);
+		for (int i = 0; i < FAILURES.length; i++) {
+			assertEquals(FAILURES[i], failures[i]);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package ru.sstu.math.uniform;
+
+/**
+ * <code>HaltonGenerator</code> class represents Halton sequence. Coordinate
+ * <code>j</code> of point <code>n</code> is radical inverse of
+ * <code>n</code> in base of <code>j</code>-th prime number. The sequence
+ * works well for small dimensions, for many dimensions coordinates with
+ * large bases become correlated, so scrambled Sobol sequence is preferable.
+ * Important! The class is not thread safe!
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+class HaltonGenerator extends UniformGenerator {
+
+	/**
+	 * Maximum possible space dimension.
+	 */
+	static final int MAX_DIMENSION = 1000;
+
+	/**
+	 * Upper bound of the first {@link #MAX_DIMENSION} primes.
+	 */
+	private static final int PRIMES_BOUND = 8000;
+
+	/**
+	 * Bases of coordinates.
+	 */
+	private final int[] bases;
+
+	/**
+	 * Inverted bases of coordinates.
+	 */
+	private final double[] inverses;
+
+	/**
+	 * Index of the next point in the sequence.
+	 */
+	private long index = 1;
+
+	/**
+	 * Creates new Halton generator.
+	 *
+	 * @param dimension dimension
+	 */
+	HaltonGenerator(int dimension) {
+		super(dimension);
+		if (dimension < 1 || dimension > MAX_DIMENSION) {
+			throw new IllegalArgumentException();
+		}
+		bases = primes(dimension);
+		inverses = new double[dimension];
+		for (int j = 0; j < dimension; j++) {
+			inverses[j] = 1.0 / bases[j];
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double[] nextVector() {
+		double[] point = new double[getDimension()];
+		nextPoint(point, 0);
+		return point;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void nextPoint(double[] buffer, int offset) {
+		int dimension = getDimension();
+		for (int j = 0; j < dimension; j++) {
+			int base = bases[j];
+			double inverse = inverses[j];
+			double factor = inverse;
+			double value = 0.0;
+			long n = index;
+			while (n > 0) {
+				long quotient = n / base;
+				value += (n - quotient * base) * factor;
+				factor *= inverse;
+				n = quotient;
+			}
+			buffer[offset + j] = value;
+		}
+		index++;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void skipTo(long count) {
+		if (count < 0 || count == Long.MAX_VALUE) {
+			throw new IllegalArgumentException();
+		}
+		index = count + 1;
+	}
+
+	/**
+	 * Finds first prime numbers using sieve of Eratosthenes.
+	 *
+	 * @param count count of prime numbers
+	 * @return prime numbers
+	 */
+	private static int[] primes(int count) {
+		boolean[] composite = new boolean[PRIMES_BOUND];
+		int[] primes = new int[count];
+		int found = 0;
+		for (int i = 2; found < count; i++) {
+			if (!composite[i]) {
+				primes[found++] = i;
+				for (int k = i * i; k < PRIMES_BOUND; k += i) {
+					composite[k] = true;
+				}
+			}
+		}
+		return primes;
+	}
+}
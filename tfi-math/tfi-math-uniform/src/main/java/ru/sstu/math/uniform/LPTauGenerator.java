@@ -64,6 +64,15 @@ class LPTauGenerator extends UniformGenerator {
 	 */
 	public double[] nextVector() {
 		double[] point = new double[getDimension()];
+		nextPoint(point, 0);
+		return point;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void nextPoint(double[] buffer, int offset) {
 		++number;
 		int tmp = number;
 		int m = 0;
@@ -85,8 +94,19 @@ class LPTauGenerator extends UniformGenerator {
 					value += 1.0 / (1 << (k + 1));
 				}
 			}
-			point[j] = value;
+			buffer[offset + j] = value;
 		}
-		return point;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void skipTo(long count) {
+		// Number of the next point should be representable as well
+		if (count < 0 || count >= Integer.MAX_VALUE) {
+			throw new IllegalArgumentException();
+		}
+		number = (int) count;
 	}
 }
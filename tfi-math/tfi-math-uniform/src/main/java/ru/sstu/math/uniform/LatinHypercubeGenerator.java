@@ -0,0 +1,119 @@
+package ru.sstu.math.uniform;
+
+/**
+ * <code>LatinHypercubeGenerator</code> class generates Latin hypercube
+ * designs. Design of <code>n</code> points has exactly one point in each of
+ * <code>n</code> equal intervals of every coordinate, so projections of the
+ * design on each axis are stratified. The generator produces one design
+ * after another, each next design is independent of previous ones.
+ * Important! The class is not thread safe!
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+class LatinHypercubeGenerator extends UniformGenerator {
+
+	/**
+	 * Count of points in single design.
+	 */
+	private final int size;
+
+	/**
+	 * Interval indices of points, <code>size</code> values for each
+	 * coordinate.
+	 */
+	private final int[] permutations;
+
+	/**
+	 * Pseudo-random numbers generator.
+	 */
+	private final XoroshiroRandom random;
+
+	/**
+	 * Index of the next point in current design.
+	 */
+	private int index;
+
+	/**
+	 * Creates generator with unique seed.
+	 *
+	 * @param dimension dimension
+	 * @param size      count of points in single design
+	 */
+	LatinHypercubeGenerator(int dimension, int size) {
+		this(dimension, size, new XoroshiroRandom());
+	}
+
+	/**
+	 * Creates generator with given seed. Generators with the same seed
+	 * produce the same designs.
+	 *
+	 * @param dimension dimension
+	 * @param size      count of points in single design
+	 * @param seed      seed
+	 */
+	LatinHypercubeGenerator(int dimension, int size, long seed) {
+		this(dimension, size, new XoroshiroRandom(seed));
+	}
+
+	/**
+	 * Creates generator.
+	 *
+	 * @param dimension dimension
+	 * @param size      count of points in single design
+	 * @param random    pseudo-random numbers generator
+	 */
+	private LatinHypercubeGenerator(int dimension, int size,
+			XoroshiroRandom random) {
+		super(dimension);
+		if (dimension < 1 || size < 1) {
+			throw new IllegalArgumentException();
+		}
+		this.size = size;
+		this.random = random;
+		permutations = new int[dimension * size];
+		index = size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double[] nextVector() {
+		double[] point = new double[getDimension()];
+		nextPoint(point, 0);
+		return point;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void nextPoint(double[] buffer, int offset) {
+		if (index == size) {
+			shuffle();
+			index = 0;
+		}
+		int dimension = getDimension();
+		double width = 1.0 / size;
+		for (int j = 0; j < dimension; j++) {
+			int interval = permutations[j * size + index];
+			buffer[offset + j] = (interval + random.nextDouble()) * width;
+		}
+		index++;
+	}
+
+	/**
+	 * Creates random permutation of intervals for each coordinate.
+	 */
+	private void shuffle() {
+		int dimension = getDimension();
+		for (int j = 0; j < dimension; j++) {
+			int start = j * size;
+			for (int i = 0; i < size; i++) {
+				int k = random.nextInt(i + 1);
+				permutations[start + i] = permutations[start + k];
+				permutations[start + k] = i;
+			}
+		}
+	}
+}
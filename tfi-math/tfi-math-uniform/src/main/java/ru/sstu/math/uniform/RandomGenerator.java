@@ -1,9 +1,9 @@
 package ru.sstu.math.uniform;
 
-import java.util.Random;
-
 /**
  * <code>RandomGenerator</code> class is a simple random generator.
+ * Important! The class is not thread safe! Use {@link #split()} to create
+ * generators for parallel workers.
  *
  * @author Denis A. Murashev
  * @since Math 1.0
@@ -13,7 +13,7 @@ class RandomGenerator extends UniformGenerator {
 	/**
 	 * Random generator.
 	 */
-	private static final Random RANDOM = new Random();
+	private final XoroshiroRandom random;
 
 	/**
 	 * Creates random points generator.
@@ -21,7 +21,28 @@ class RandomGenerator extends UniformGenerator {
 	 * @param dimension dimension
 	 */
 	RandomGenerator(int dimension) {
+		this(dimension, new XoroshiroRandom());
+	}
+
+	/**
+	 * Creates random points generator with given seed.
+	 *
+	 * @param dimension dimension
+	 * @param seed      seed
+	 */
+	RandomGenerator(int dimension, long seed) {
+		this(dimension, new XoroshiroRandom(seed));
+	}
+
+	/**
+	 * Creates random points generator.
+	 *
+	 * @param dimension dimension
+	 * @param random    source of random numbers
+	 */
+	private RandomGenerator(int dimension, XoroshiroRandom random) {
 		super(dimension);
+		this.random = random;
 	}
 
 	/**
@@ -29,9 +50,25 @@ class RandomGenerator extends UniformGenerator {
 	 */
 	public double[] nextVector() {
 		double[] point = new double[getDimension()];
+		nextPoint(point, 0);
+		return point;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void nextPoint(double[] buffer, int offset) {
 		for (int i = 0; i < getDimension(); i++) {
-			point[i] = RANDOM.nextDouble();
+			buffer[offset + i] = random.nextDouble();
 		}
-		return point;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public UniformGenerator split() {
+		return new RandomGenerator(getDimension(), random.split());
 	}
 }
@@ -0,0 +1,270 @@
+package ru.sstu.math.uniform;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+/**
+ * <code>SobolGenerator</code> class represents implementation of Sobol
+ * (LPTau) sequences for up to 1000 dimensions. Points are generated in Gray
+ * code order, so each coordinate of the next point is obtained by single XOR
+ * with precomputed direction number. Direction numbers are taken from
+ * new-joe-kuo-6.1000 table by S. Joe and F. Y. Kuo.
+ * Important! The class is not thread safe! Use {@link #skipTo(long)} to
+ * divide the sequence between parallel workers.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+class SobolGenerator extends UniformGenerator {
+
+	/**
+	 * Maximum possible space dimension.
+	 */
+	static final int MAX_DIMENSION = 1000;
+
+	/**
+	 * Count of bits in generated coordinates.
+	 */
+	static final int BITS = 52;
+
+	/**
+	 * Multiplier which converts coordinate bits to double in [0, 1).
+	 */
+	private static final double SCALE = 1.0 / (1L << BITS);
+
+	/**
+	 * Resource with direction numbers.
+	 */
+	private static final String RESOURCE = "new-joe-kuo-6.1000";
+
+	/**
+	 * Count of leading columns (d, s, a) in the resource.
+	 */
+	private static final int HEADER_COLUMNS = 3;
+
+	/**
+	 * Parsed resource, row for each dimension starting from the second one:
+	 * s, a, m_1, ..., m_s.
+	 */
+	private static int[][] table;
+
+	/**
+	 * Direction numbers, column for each bit.
+	 */
+	private final long[] directions;
+
+	/**
+	 * Coordinates of the next point as integers.
+	 */
+	private final long[] state;
+
+	/**
+	 * Index of the first generated point in the sequence.
+	 */
+	private final long first;
+
+	/**
+	 * Index of the next point in the sequence.
+	 */
+	private long position;
+
+	/**
+	 * Creates new Sobol generator. Zero point of the sequence is skipped.
+	 *
+	 * @param dimension dimension
+	 */
+	SobolGenerator(int dimension) {
+		this(dimension, 1);
+	}
+
+	/**
+	 * Creates new Sobol generator.
+	 *
+	 * @param dimension dimension
+	 * @param first     index of the first generated point in the sequence
+	 */
+	SobolGenerator(int dimension, long first) {
+		super(dimension);
+		if (dimension < 1 || dimension > MAX_DIMENSION) {
+			throw new IllegalArgumentException();
+		}
+		directions = new long[BITS * dimension];
+		state = new long[dimension];
+		for (int i = 0; i < BITS; i++) {
+			directions[i * dimension] = 1L << (BITS - 1 - i);
+		}
+		int[][] data = getTable();
+		for (int j = 1; j < dimension; j++) {
+			initDirections(j, data[j - 1]);
+		}
+		this.first = first;
+		moveTo(first);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double[] nextVector() {
+		double[] point = new double[getDimension()];
+		nextPoint(point, 0);
+		return point;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void nextPoint(double[] buffer, int offset) {
+		long next = position + 1;
+		int bit = Long.numberOfTrailingZeros(next);
+		if (bit >= BITS) {
+			throw new IllegalStateException();
+		}
+		int dimension = getDimension();
+		int column = bit * dimension;
+		for (int j = 0; j < dimension; j++) {
+			buffer[offset + j] = toDouble(state[j], j);
+			state[j] ^= directions[column + j];
+		}
+		position = next;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void skipTo(long count) {
+		if (count < 0 || count >= (1L << BITS) - first) {
+			throw new IllegalArgumentException();
+		}
+		moveTo(first + count);
+	}
+
+	/**
+	 * Converts coordinate bits to double value in [0, 1). Subclasses may
+	 * override it to scramble the sequence.
+	 *
+	 * @param value coordinate bits
+	 * @param j     coordinate index
+	 * @return coordinate value
+	 */
+	double toDouble(long value, int j) {
+		return value * SCALE;
+	}
+
+	/**
+	 * Calculates point with given index in the sequence directly.
+	 *
+	 * @param index index of the next point
+	 */
+	private void moveTo(long index) {
+		position = index;
+		int dimension = getDimension();
+		long gray = index ^ (index >>> 1);
+		for (int j = 0; j < dimension; j++) {
+			long value = 0;
+			for (int i = 0; i < BITS; i++) {
+				if ((gray & 1L << i) != 0) {
+					value ^= directions[i * dimension + j];
+				}
+			}
+			state[j] = value;
+		}
+	}
+
+	/**
+	 * Calculates direction numbers for given coordinate.
+	 *
+	 * @param j    coordinate index
+	 * @param data s, a, m_1, ..., m_s values
+	 */
+	private void initDirections(int j, int[] data) {
+		int dimension = getDimension();
+		int s = data[0];
+		int a = data[1];
+		for (int i = 0; i < s && i < BITS; i++) {
+			directions[i * dimension + j] = (long) data[i + 2]
+					<< (BITS - 1 - i);
+		}
+		for (int i = s; i < BITS; i++) {
+			long v = directions[(i - s) * dimension + j];
+			v ^= v >>> s;
+			for (int k = 1; k < s; k++) {
+				if ((a >>> (s - 1 - k) & 1) != 0) {
+					v ^= directions[(i - k) * dimension + j];
+				}
+			}
+			directions[i * dimension + j] = v;
+		}
+	}
+
+	/**
+	 * Provides parsed direction numbers table. It is loaded once.
+	 *
+	 * @return table
+	 */
+	private static synchronized int[][] getTable() {
+		if (table == null) {
+			try {
+				table = loadTable();
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Loads direction numbers table from resource.
+	 *
+	 * @return table
+	 * @throws IOException if resource cannot be read
+	 */
+	private static int[][] loadTable() throws IOException {
+		InputStream stream = SobolGenerator.class.getResourceAsStream(
+				RESOURCE);
+		if (stream == null) {
+			throw new IOException(RESOURCE);
+		}
+		int[][] data = new int[MAX_DIMENSION - 1][];
+		BufferedReader reader = new BufferedReader(new InputStreamReader(
+				stream, "US-ASCII"));
+		try {
+			int count = 0;
+			String line = reader.readLine();
+			while (line != null && count < data.length) {
+				line = line.trim();
+				if (line.length() > 0 && !line.startsWith("#")) {
+					data[count++] = parseLine(line);
+				}
+				line = reader.readLine();
+			}
+			if (count < data.length) {
+				throw new IOException(RESOURCE);
+			}
+		} finally {
+			reader.close();
+		}
+		return data;
+	}
+
+	/**
+	 * Parses single line of the table.
+	 *
+	 * @param line line
+	 * @return s, a, m_1, ..., m_s values
+	 */
+	private static int[] parseLine(String line) {
+		String[] tokens = line.split("\\s+");
+		int[] values = new int[tokens.length - 1];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = Integer.parseInt(tokens[i + 1]);
+		}
+		if (tokens.length != HEADER_COLUMNS + values[0]) {
+			throw new IllegalStateException(line);
+		}
+		return values;
+	}
+}
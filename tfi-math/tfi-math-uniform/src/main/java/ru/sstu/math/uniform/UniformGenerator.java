@@ -33,6 +33,19 @@ public abstract class UniformGenerator implements RandomVectorGenerator {
 		return new RandomGenerator(dimension);
 	}
 
+	/**
+	 * Creates random generator with given seed. Generators created with the
+	 * same seed produce the same sequences.
+	 *
+	 * @param dimension generated points dimension
+	 * @param seed      seed
+	 * @return new instance of RandomGenerator
+	 */
+	public static UniformGenerator getRandomGenerator(int dimension,
+			long seed) {
+		return new RandomGenerator(dimension, seed);
+	}
+
 	/**
 	 * @param dimension generated points dimension
 	 * @return new instance of LPTauGenerator
@@ -41,10 +54,147 @@ public abstract class UniformGenerator implements RandomVectorGenerator {
 		return new LPTauGenerator(dimension);
 	}
 
+	/**
+	 * @param dimension generated points dimension, up to 1000
+	 * @return new instance of SobolGenerator
+	 */
+	public static UniformGenerator getSobolGenerator(int dimension) {
+		return new SobolGenerator(dimension);
+	}
+
+	/**
+	 * Creates Owen-scrambled Sobol generator with random scrambling.
+	 *
+	 * @param dimension generated points dimension, up to 1000
+	 * @return new instance of ScrambledSobolGenerator
+	 */
+	public static UniformGenerator getScrambledSobolGenerator(int dimension) {
+		return new ScrambledSobolGenerator(dimension);
+	}
+
+	/**
+	 * Creates Owen-scrambled Sobol generator with given seed. Generators
+	 * created with the same seed produce the same sequences.
+	 *
+	 * @param dimension generated points dimension, up to 1000
+	 * @param seed      seed
+	 * @return new instance of ScrambledSobolGenerator
+	 */
+	public static UniformGenerator getScrambledSobolGenerator(int dimension,
+			long seed) {
+		return new ScrambledSobolGenerator(dimension, seed);
+	}
+
+	/**
+	 * @param dimension generated points dimension, up to 1000
+	 * @return new instance of HaltonGenerator
+	 */
+	public static UniformGenerator getHaltonGenerator(int dimension) {
+		return new HaltonGenerator(dimension);
+	}
+
+	/**
+	 * Creates generator of Latin hypercube designs. Each <code>size</code>
+	 * consecutive points form single design.
+	 *
+	 * @param dimension generated points dimension
+	 * @param size      count of points in single design
+	 * @return new instance of LatinHypercubeGenerator
+	 */
+	public static UniformGenerator getLatinHypercubeGenerator(int dimension,
+			int size) {
+		return new LatinHypercubeGenerator(dimension, size);
+	}
+
+	/**
+	 * Creates generator of Latin hypercube designs with given seed.
+	 * Generators created with the same seed produce the same designs.
+	 *
+	 * @param dimension generated points dimension
+	 * @param size      count of points in single design
+	 * @param seed      seed
+	 * @return new instance of LatinHypercubeGenerator
+	 */
+	public static UniformGenerator getLatinHypercubeGenerator(int dimension,
+			int size, long seed) {
+		return new LatinHypercubeGenerator(dimension, size, seed);
+	}
+
+	/**
+	 * Generates <code>count</code> points into given buffer. Points are
+	 * stored one after another, so coordinate <code>j</code> of point
+	 * <code>i</code> is <code>buffer[i * dimension + j]</code>. The buffer
+	 * can be reused between calls, so no memory is allocated per point.
+	 *
+	 * @param buffer buffer of at least <code>count * dimension</code> length
+	 * @param count  count of points to be generated
+	 */
+	public void fill(double[] buffer, int count) {
+		if (count < 0 || buffer.length < count * dimension) {
+			throw new IllegalArgumentException();
+		}
+		for (int i = 0; i < count; i++) {
+			nextPoint(buffer, i * dimension);
+		}
+	}
+
+	/**
+	 * Generates block of points.
+	 *
+	 * @param count count of points to be generated
+	 * @return points stored one after another
+	 * @see #fill(double[], int)
+	 */
+	public double[] nextBlock(int count) {
+		if (count < 0) {
+			throw new IllegalArgumentException();
+		}
+		double[] buffer = new double[count * dimension];
+		fill(buffer, count);
+		return buffer;
+	}
+
+	/**
+	 * Moves generator to the state as if <code>count</code> points were
+	 * already generated. It allows to divide quasi-random sequence between
+	 * parallel workers. Generators which do not support it throw
+	 * {@link UnsupportedOperationException}.
+	 *
+	 * @param count count of points to skip from the beginning
+	 */
+	public void skipTo(long count) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Creates generator for parallel worker. Sequence of new generator does
+	 * not overlap with sequence of this generator. Generators created by
+	 * splitting of seeded generator are reproducible as well.
+	 * Generators which cannot be split throw
+	 * {@link UnsupportedOperationException}.
+	 *
+	 * @return new generator of the same dimension
+	 */
+	public UniformGenerator split() {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * @return dimension of generated points
 	 */
 	protected int getDimension() {
 		return dimension;
 	}
+
+	/**
+	 * Generates next point into given buffer. Default implementation copies
+	 * result of {@link #nextVector()}, subclasses should override it to
+	 * avoid allocation of array per point.
+	 *
+	 * @param buffer buffer
+	 * @param offset offset of the point in buffer
+	 */
+	protected void nextPoint(double[] buffer, int offset) {
+		System.arraycopy(nextVector(), 0, buffer, offset, dimension);
+	}
 }
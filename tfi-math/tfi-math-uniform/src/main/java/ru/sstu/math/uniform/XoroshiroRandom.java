@@ -0,0 +1,191 @@
+package ru.sstu.math.uniform;
+
+/**
+ * <code>XoroshiroRandom</code> class is xoroshiro128** pseudo-random numbers
+ * generator. Unlike {@link java.util.Random} it has no synchronization, so
+ * each thread should use its own instance. Independent instances for parallel
+ * workers are created by {@link #split()}, which uses jump function, so
+ * sequences of parent and child do not overlap.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+final class XoroshiroRandom {
+
+	/**
+	 * Golden gamma used by SplitMix64 seeding.
+	 */
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	/**
+	 * First SplitMix64 multiplier.
+	 */
+	private static final long MIX_1 = 0xbf58476d1ce4e5b9L;
+
+	/**
+	 * Second SplitMix64 multiplier.
+	 */
+	private static final long MIX_2 = 0x94d049bb133111ebL;
+
+	/**
+	 * Jump polynomial, equivalent to 2^64 calls of {@link #nextLong()}.
+	 */
+	private static final long[] JUMP = {
+		0xdf900294d8f554a5L, 0x170865df4b3201fcL,
+	};
+
+	/**
+	 * Count of bits in double mantissa.
+	 */
+	private static final int MANTISSA_BITS = 53;
+
+	/**
+	 * Multiplier which converts 53 bits to double in [0, 1).
+	 */
+	private static final double DOUBLE_UNIT = 1.0 / (1L << MANTISSA_BITS);
+
+	/**
+	 * Seed uniquifier for generators created without seed.
+	 */
+	private static long seedUniquifier = System.nanoTime();
+
+	/**
+	 * First half of the state.
+	 */
+	private long state0;
+
+	/**
+	 * Second half of the state.
+	 */
+	private long state1;
+
+	/**
+	 * Creates generator with unique seed.
+	 */
+	XoroshiroRandom() {
+		this(nextSeed() ^ System.nanoTime());
+	}
+
+	/**
+	 * Creates generator with given seed. Generators with the same seed
+	 * produce the same sequences.
+	 *
+	 * @param seed seed
+	 */
+	XoroshiroRandom(long seed) {
+		long s = seed;
+		s += GOLDEN_GAMMA;
+		state0 = mix(s);
+		s += GOLDEN_GAMMA;
+		state1 = mix(s);
+		if (state0 == 0 && state1 == 0) {
+			state1 = GOLDEN_GAMMA;
+		}
+	}
+
+	/**
+	 * Creates generator with given state.
+	 *
+	 * @param state0 first half of the state
+	 * @param state1 second half of the state
+	 */
+	private XoroshiroRandom(long state0, long state1) {
+		this.state0 = state0;
+		this.state1 = state1;
+	}
+
+	/**
+	 * @return next pseudo-random 64-bit value
+	 */
+	long nextLong() {
+		final int shiftA = 24;
+		final int shiftB = 16;
+		final int shiftC = 37;
+		final int rotation = 7;
+		final long multiplier1 = 5;
+		final long multiplier2 = 9;
+		long s0 = state0;
+		long s1 = state1;
+		long result = Long.rotateLeft(s0 * multiplier1, rotation)
+				* multiplier2;
+		s1 ^= s0;
+		state0 = Long.rotateLeft(s0, shiftA) ^ s1 ^ (s1 << shiftB);
+		state1 = Long.rotateLeft(s1, shiftC);
+		return result;
+	}
+
+	/**
+	 * @return next pseudo-random value uniformly distributed in [0, 1)
+	 */
+	double nextDouble() {
+		return (nextLong() >>> (Long.SIZE - MANTISSA_BITS)) * DOUBLE_UNIT;
+	}
+
+	/**
+	 * Generates value uniformly distributed in [0, bound). Multiply-shift
+	 * reduction is used instead of division.
+	 *
+	 * @param bound upper bound (exclusive), positive
+	 * @return next pseudo-random value
+	 */
+	int nextInt(int bound) {
+		final int bits = 31;
+		long value = nextLong() >>> (Long.SIZE - bits);
+		return (int) ((value * bound) >>> bits);
+	}
+
+	/**
+	 * Creates new generator which continues current sequence, and moves this
+	 * generator 2^64 steps forward. Sequences of both generators never
+	 * overlap in practice.
+	 *
+	 * @return new generator
+	 */
+	XoroshiroRandom split() {
+		XoroshiroRandom child = new XoroshiroRandom(state0, state1);
+		jump();
+		return child;
+	}
+
+	/**
+	 * Moves generator 2^64 steps forward.
+	 */
+	private void jump() {
+		long s0 = 0;
+		long s1 = 0;
+		for (long jump : JUMP) {
+			for (int b = 0; b < Long.SIZE; b++) {
+				if ((jump & 1L << b) != 0) {
+					s0 ^= state0;
+					s1 ^= state1;
+				}
+				nextLong();
+			}
+		}
+		state0 = s0;
+		state1 = s1;
+	}
+
+	/**
+	 * @return next seed for generator created without seed
+	 */
+	private static synchronized long nextSeed() {
+		seedUniquifier += GOLDEN_GAMMA;
+		return mix(seedUniquifier);
+	}
+
+	/**
+	 * SplitMix64 mixing function.
+	 *
+	 * @param value value
+	 * @return mixed value
+	 */
+	private static long mix(long value) {
+		final int shift1 = 30;
+		final int shift2 = 27;
+		final int shift3 = 31;
+		long z = (value ^ (value >>> shift1)) * MIX_1;
+		z = (z ^ (z >>> shift2)) * MIX_2;
+		return z ^ (z >>> shift3);
+	}
+}
@@ -0,0 +1,75 @@
+package ru.sstu.math.uniform;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+/**
+ * <code>HaltonGeneratorTest</code> class tests {@link HaltonGenerator} class.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public class HaltonGeneratorTest extends TestCase {
+
+	/**
+	 * Delta.
+	 */
+	private static final double DELTA = 1e-15;
+
+	/**
+	 * First points of 2-dimensional sequence.
+	 */
+	private static final double[][] EXPECTED = {
+		{0.5, 0.3333333333333333},
+		{0.25, 0.6666666666666666},
+		{0.75, 0.1111111111111111},
+		{0.125, 0.4444444444444444},
+		{0.625, 0.7777777777777778},
+	};
+
+	/**
+	 * Samples count.
+	 */
+	private static final int SAMPLES = 1000;
+
+	/**
+	 * Tests first points of the sequence.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testFirstPoints() throws Exception {
+		UniformGenerator generator = UniformGenerator.getHaltonGenerator(2);
+		for (double[] expected : EXPECTED) {
+			double[] point = generator.nextVector();
+			for (int i = 0; i < expected.length; i++) {
+				assertEquals(expected[i], point[i], DELTA);
+			}
+		}
+	}
+
+	/**
+	 * Tests that skipped generator continues the sequence.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testSkipTo() throws Exception {
+		final int dimension = HaltonGenerator.MAX_DIMENSION;
+		final int skip = 100;
+		UniformGenerator generator = UniformGenerator.getHaltonGenerator(
+				dimension);
+		UniformGenerator worker = UniformGenerator.getHaltonGenerator(
+				dimension);
+		worker.skipTo(skip);
+		for (int i = 0; i < skip; i++) {
+			generator.nextVector();
+		}
+		for (int i = 0; i < SAMPLES; i++) {
+			double[] point = worker.nextVector();
+			assertTrue(Arrays.equals(generator.nextVector(), point));
+			for (double x : point) {
+				assertTrue(x > 0.0 && x < 1.0);
+			}
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package ru.sstu.math.uniform;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+/**
+ * <code>LatinHypercubeGeneratorTest</code> class tests
+ * {@link LatinHypercubeGenerator} class.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public class LatinHypercubeGeneratorTest extends TestCase {
+
+	/**
+	 * Dimension.
+	 */
+	private static final int DIMENSION = 5;
+
+	/**
+	 * Design size.
+	 */
+	private static final int SIZE = 50;
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 42L;
+
+	/**
+	 * Tests that each coordinate of each design has exactly one value in
+	 * each interval.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testStratification() throws Exception {
+		final int designs = 3;
+		UniformGenerator generator = UniformGenerator
+				.getLatinHypercubeGenerator(DIMENSION, SIZE);
+		for (int k = 0; k < designs; k++) {
+			double[] block = generator.nextBlock(SIZE);
+			for (int j = 0; j < DIMENSION; j++) {
+				boolean[] occupied = new boolean[SIZE];
+				for (int i = 0; i < SIZE; i++) {
+					double x = block[i * DIMENSION + j];
+					assertTrue(x >= 0.0 && x < 1.0);
+					int interval = (int) (x * SIZE);
+					assertFalse(occupied[interval]);
+					occupied[interval] = true;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests that generators with the same seed are reproducible.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testSeed() throws Exception {
+		UniformGenerator first = UniformGenerator.getLatinHypercubeGenerator(
+				DIMENSION, SIZE, SEED);
+		UniformGenerator second = UniformGenerator
+				.getLatinHypercubeGenerator(DIMENSION, SIZE, SEED);
+		assertTrue(Arrays.equals(first.nextBlock(SIZE + 1),
+				second.nextBlock(SIZE + 1)));
+	}
+}
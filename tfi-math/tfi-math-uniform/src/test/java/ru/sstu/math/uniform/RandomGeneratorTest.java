@@ -0,0 +1,87 @@
+package ru.sstu.math.uniform;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+/**
+ * <code>RandomGeneratorTest</code> class tests {@link RandomGenerator} class.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public class RandomGeneratorTest extends TestCase {
+
+	/**
+	 * Dimension.
+	 */
+	private static final int DIMENSION = 3;
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 42L;
+
+	/**
+	 * Samples count.
+	 */
+	private static final int SAMPLES = 1000;
+
+	/**
+	 * Tests that generators with the same seed are reproducible.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testSeed() throws Exception {
+		UniformGenerator first = UniformGenerator.getRandomGenerator(DIMENSION,
+				SEED);
+		UniformGenerator second = UniformGenerator.getRandomGenerator(
+				DIMENSION, SEED);
+		for (int i = 0; i < SAMPLES; i++) {
+			double[] point = first.nextVector();
+			assertTrue(Arrays.equals(point, second.nextVector()));
+			for (double x : point) {
+				assertTrue(x >= 0.0 && x < 1.0);
+			}
+		}
+	}
+
+	/**
+	 * Tests that split generators are reproducible and independent.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testSplit() throws Exception {
+		UniformGenerator first = UniformGenerator.getRandomGenerator(DIMENSION,
+				SEED);
+		UniformGenerator second = UniformGenerator.getRandomGenerator(
+				DIMENSION, SEED);
+		UniformGenerator firstChild = first.split();
+		UniformGenerator secondChild = second.split();
+		for (int i = 0; i < SAMPLES; i++) {
+			double[] point = firstChild.nextVector();
+			assertTrue(Arrays.equals(point, secondChild.nextVector()));
+			assertFalse(Arrays.equals(point, first.nextVector()));
+		}
+	}
+
+	/**
+	 * Tests that block of points is the same as sequence of vectors.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testFill() throws Exception {
+		UniformGenerator first = UniformGenerator.getRandomGenerator(DIMENSION,
+				SEED);
+		UniformGenerator second = UniformGenerator.getRandomGenerator(
+				DIMENSION, SEED);
+		double[] buffer = new double[SAMPLES * DIMENSION];
+		first.fill(buffer, SAMPLES);
+		for (int i = 0; i < SAMPLES; i++) {
+			double[] point = second.nextVector();
+			for (int j = 0; j < DIMENSION; j++) {
+				assertEquals(point[j], buffer[i * DIMENSION + j]);
+			}
+		}
+	}
+}
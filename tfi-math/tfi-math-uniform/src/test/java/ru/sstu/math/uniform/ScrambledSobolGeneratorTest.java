@@ -0,0 +1,78 @@
+package ru.sstu.math.uniform;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+/**
+ * <code>ScrambledSobolGeneratorTest</code> class tests
+ * {@link ScrambledSobolGenerator} class.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public class ScrambledSobolGeneratorTest extends TestCase {
+
+	/**
+	 * Dimension.
+	 */
+	private static final int DIMENSION = 20;
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 42L;
+
+	/**
+	 * Samples count, power of 2.
+	 */
+	private static final int SAMPLES = 1024;
+
+	/**
+	 * Tests that each coordinate of the first 2^k points has exactly one
+	 * value in each of 2^k equal intervals.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testStratification() throws Exception {
+		UniformGenerator generator = UniformGenerator
+				.getScrambledSobolGenerator(DIMENSION);
+		double[] block = generator.nextBlock(SAMPLES);
+		for (int j = 0; j < DIMENSION; j++) {
+			boolean[] occupied = new boolean[SAMPLES];
+			for (int i = 0; i < SAMPLES; i++) {
+				double x = block[i * DIMENSION + j];
+				assertTrue(x >= 0.0 && x < 1.0);
+				int interval = (int) (x * SAMPLES);
+				assertFalse(occupied[interval]);
+				occupied[interval] = true;
+			}
+		}
+	}
+
+	/**
+	 * Tests that generators with the same seed are reproducible and
+	 * skipped generator continues the sequence.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testSeed() throws Exception {
+		final int skip = 100;
+		UniformGenerator generator = UniformGenerator
+				.getScrambledSobolGenerator(DIMENSION, SEED);
+		UniformGenerator worker = UniformGenerator
+				.getScrambledSobolGenerator(DIMENSION, SEED);
+		UniformGenerator other = UniformGenerator
+				.getScrambledSobolGenerator(DIMENSION, SEED + 1);
+		assertFalse(Arrays.equals(generator.nextVector(),
+				other.nextVector()));
+		worker.skipTo(skip);
+		for (int i = 1; i < skip; i++) {
+			generator.nextVector();
+		}
+		for (int i = 0; i < SAMPLES; i++) {
+			assertTrue(Arrays.equals(generator.nextVector(),
+					worker.nextVector()));
+		}
+	}
+}
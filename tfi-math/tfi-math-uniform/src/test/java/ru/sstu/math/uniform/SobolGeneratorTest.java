@@ -0,0 +1,117 @@
+package ru.sstu.math.uniform;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+/**
+ * <code>SobolGeneratorTest</code> class tests {@link SobolGenerator} class.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public class SobolGeneratorTest extends TestCase {
+
+	/**
+	 * Delta.
+	 */
+	private static final double DELTA = 1e-15;
+
+	/**
+	 * First points of 2-dimensional sequence.
+	 */
+	private static final double[][] EXPECTED = {
+		{0.5, 0.5},
+		{0.75, 0.25},
+		{0.25, 0.75},
+		{0.375, 0.375},
+		{0.875, 0.875},
+	};
+
+	/**
+	 * Samples count.
+	 */
+	private static final int SAMPLES = 1024;
+
+	/**
+	 * Tests first points of the sequence.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testFirstPoints() throws Exception {
+		UniformGenerator generator = UniformGenerator.getSobolGenerator(2);
+		for (double[] expected : EXPECTED) {
+			double[] point = generator.nextVector();
+			for (int i = 0; i < expected.length; i++) {
+				assertEquals(expected[i], point[i], DELTA);
+			}
+		}
+	}
+
+	/**
+	 * Tests that every coordinate is uniformly distributed in high
+	 * dimensional space.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testMaxDimension() throws Exception {
+		final int dimension = SobolGenerator.MAX_DIMENSION;
+		UniformGenerator generator = UniformGenerator.getSobolGenerator(
+				dimension);
+		// First 2^k - 1 points together with zero form (0, 2^k) net
+		final int count = SAMPLES - 1;
+		double[] sums = new double[dimension];
+		for (int i = 0; i < count; i++) {
+			double[] point = generator.nextVector();
+			for (int j = 0; j < dimension; j++) {
+				assertTrue(point[j] >= 0.0 && point[j] < 1.0);
+				sums[j] += point[j];
+			}
+		}
+		final double expected = (SAMPLES - 1) / 2.0;
+		for (int j = 0; j < dimension; j++) {
+			assertEquals(expected, sums[j], DELTA * SAMPLES);
+		}
+	}
+
+	/**
+	 * Tests that block of points is the same as sequence of vectors.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testNextBlock() throws Exception {
+		final int dimension = 7;
+		UniformGenerator first = UniformGenerator.getSobolGenerator(dimension);
+		UniformGenerator second = UniformGenerator.getSobolGenerator(
+				dimension);
+		double[] block = first.nextBlock(SAMPLES);
+		for (int i = 0; i < SAMPLES; i++) {
+			double[] point = second.nextVector();
+			for (int j = 0; j < dimension; j++) {
+				assertEquals(point[j], block[i * dimension + j]);
+			}
+		}
+	}
+
+	/**
+	 * Tests that skipped generator continues the sequence.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testSkipTo() throws Exception {
+		final int dimension = 50;
+		final int skip = 100;
+		UniformGenerator generator = UniformGenerator.getSobolGenerator(
+				dimension);
+		UniformGenerator worker = UniformGenerator.getSobolGenerator(
+				dimension);
+		worker.skipTo(skip);
+		for (int i = 0; i < skip; i++) {
+			generator.nextVector();
+		}
+		for (int i = 0; i < SAMPLES; i++) {
+			assertTrue(Arrays.equals(generator.nextVector(),
+					worker.nextVector()));
+		}
+	}
+}
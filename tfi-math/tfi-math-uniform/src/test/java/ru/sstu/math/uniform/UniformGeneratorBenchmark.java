@@ -0,0 +1,230 @@
+package ru.sstu.math.uniform;
+
+import org.apache.log4j.Logger;
+
+/**
+ * <code>UniformGeneratorBenchmark</code> class compares generators by
+ * L2-star discrepancy of the first points and by generation speed.
+ * It is not executed during build, run it manually:
+ * <code>java ru.sstu.math.uniform.UniformGeneratorBenchmark [dimension]</code>,
+ * dimension should not exceed 14 because of LPTau sequence.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public final class UniformGeneratorBenchmark {
+
+	/**
+	 * Logger.
+	 */
+	private static Logger log = Logger.getLogger(
+			UniformGeneratorBenchmark.class);
+
+	/**
+	 * Default dimension.
+	 */
+	private static final int DIMENSION = 8;
+
+	/**
+	 * Counts of points for discrepancy calculation.
+	 */
+	private static final int[] COUNTS = {64, 256, 1024, 4096};
+
+	/**
+	 * Count of points for speed measurement.
+	 */
+	private static final int SPEED_POINTS = 1048576;
+
+	/**
+	 * Count of points generated per call.
+	 */
+	private static final int BLOCK = 1024;
+
+	/**
+	 * Count of points generated by single generator during speed
+	 * measurement, LPTau sequence cannot be much longer.
+	 */
+	private static final int RESTART = 16384;
+
+	/**
+	 * Seed.
+	 */
+	private static final long SEED = 42L;
+
+	/**
+	 * Index of random generator in {@link #NAMES}.
+	 */
+	private static final int RANDOM = 0;
+
+	/**
+	 * Index of LPTau generator in {@link #NAMES}.
+	 */
+	private static final int LP_TAU = 1;
+
+	/**
+	 * Index of Sobol generator in {@link #NAMES}.
+	 */
+	private static final int SOBOL = 2;
+
+	/**
+	 * Index of scrambled Sobol generator in {@link #NAMES}.
+	 */
+	private static final int SCRAMBLED_SOBOL = 3;
+
+	/**
+	 * Index of Halton generator in {@link #NAMES}.
+	 */
+	private static final int HALTON = 4;
+
+	/**
+	 * Names of generators.
+	 */
+	private static final String[] NAMES = {
+		"Random", "LPTau", "Sobol", "ScrambledSobol", "Halton",
+		"LatinHypercube",
+	};
+
+	/**
+	 * Format of values.
+	 */
+	private static final String FORMAT = "%.3e";
+
+	/**
+	 * Nanoseconds in second.
+	 */
+	private static final double NANOS = 1e9;
+
+	/**
+	 * Utility class.
+	 */
+	private UniformGeneratorBenchmark() {
+	}
+
+	/**
+	 * Runs benchmark.
+	 *
+	 * @param args dimension (optional)
+	 */
+	public static void main(String[] args) {
+		int dimension = args.length > 0 ? Integer.parseInt(args[0])
+				: DIMENSION;
+		log.info("Dimension " + dimension);
+		StringBuilder header = new StringBuilder("Generator");
+		for (int count : COUNTS) {
+			header.append("\tD2*(").append(count).append(')');
+		}
+		header.append("\tpoints/s");
+		log.info(header);
+		for (int g = 0; g < NAMES.length; g++) {
+			String name = NAMES[g];
+			StringBuilder line = new StringBuilder(name);
+			for (int count : COUNTS) {
+				double[] points = create(g, dimension, count)
+						.nextBlock(count);
+				line.append('\t').append(String.format(FORMAT,
+						discrepancy(points, count, dimension)));
+			}
+			line.append('\t').append(String.format(FORMAT,
+					speed(g, dimension)));
+			log.info(line);
+		}
+	}
+
+	/**
+	 * Creates generator.
+	 *
+	 * @param index     index of generator in {@link #NAMES}
+	 * @param dimension dimension
+	 * @param size      size of Latin hypercube design
+	 * @return generator
+	 */
+	private static UniformGenerator create(int index, int dimension,
+			int size) {
+		switch (index) {
+		case RANDOM:
+			return UniformGenerator.getRandomGenerator(dimension, SEED);
+		case LP_TAU:
+			return UniformGenerator.getLPTauGenerator(dimension);
+		case SOBOL:
+			return UniformGenerator.getSobolGenerator(dimension);
+		case SCRAMBLED_SOBOL:
+			return UniformGenerator.getScrambledSobolGenerator(dimension,
+					SEED);
+		case HALTON:
+			return UniformGenerator.getHaltonGenerator(dimension);
+		default:
+			return UniformGenerator.getLatinHypercubeGenerator(dimension,
+					size, SEED);
+		}
+	}
+
+	/**
+	 * Calculates L2-star discrepancy by Warnock formula.
+	 *
+	 * @param points    points stored one after another
+	 * @param count     count of points
+	 * @param dimension dimension
+	 * @return discrepancy
+	 */
+	private static double discrepancy(double[] points, int count,
+			int dimension) {
+		final double three = 3.0;
+		double single = 0.0;
+		double pairs = 0.0;
+		for (int i = 0; i < count; i++) {
+			int a = i * dimension;
+			double product = 1.0;
+			for (int k = 0; k < dimension; k++) {
+				double x = points[a + k];
+				product *= (1.0 - x * x) / 2;
+			}
+			single += product;
+			for (int l = 0; l < count; l++) {
+				int b = l * dimension;
+				product = 1.0;
+				for (int k = 0; k < dimension; k++) {
+					product *= 1.0 - Math.max(points[a + k], points[b + k]);
+				}
+				pairs += product;
+			}
+		}
+		double squared = Math.pow(three, -dimension) - 2.0 * single / count
+				+ pairs / ((double) count * count);
+		return Math.sqrt(Math.max(squared, 0.0));
+	}
+
+	/**
+	 * Measures generation speed.
+	 *
+	 * @param index     index of generator in {@link #NAMES}
+	 * @param dimension dimension
+	 * @return points per second
+	 */
+	private static double speed(int index, int dimension) {
+		double[] buffer = new double[BLOCK * dimension];
+		// Warm up
+		generate(index, dimension, buffer);
+		long start = System.nanoTime();
+		generate(index, dimension, buffer);
+		double seconds = Math.max(System.nanoTime() - start, 1) / NANOS;
+		return SPEED_POINTS / seconds;
+	}
+
+	/**
+	 * Generates points for speed measurement.
+	 *
+	 * @param index     index of generator in {@link #NAMES}
+	 * @param dimension dimension
+	 * @param buffer    buffer for block of points
+	 */
+	private static void generate(int index, int dimension,
+			double[] buffer) {
+		UniformGenerator generator = null;
+		for (int i = 0; i < SPEED_POINTS; i += BLOCK) {
+			if (i % RESTART == 0) {
+				generator = create(index, dimension, BLOCK);
+			}
+			generator.fill(buffer, BLOCK);
+		}
+	}
+}
@@ -2,7 +2,6 @@ package ru.sstu.math.util;
 
 import org.apache.commons.math.analysis.polynomials.PolynomialFunction;
 import org.apache.commons.math.linear.RealMatrix;
-import org.apache.log4j.Logger;
 
 /**
  * <code>MatrixUtil</code> class helps to work with matrices.
@@ -12,11 +11,6 @@ import org.apache.log4j.Logger;
  */
 public final class MatrixUtil {
 
-	/**
-	 * Logger.
-	 */
-	private static Logger log = Logger.getLogger(MatrixUtil.class);
-
 	/**
 	 * No instances needed.
 	 */
@@ -33,17 +27,53 @@ public final class MatrixUtil {
 	public static PolynomialFunction[] multiply(RealMatrix matrix,
 			PolynomialFunction[] vector) {
 		int size = vector.length;
-		PolynomialFunction[] result = new PolynomialFunction[size];
+		double[][] data = new double[size][size];
+		double[][] coefficients = new double[size][];
 		for (int i = 0; i < size; i++) {
-			result[i] = PolynomialUtil.create();
 			for (int j = 0; j < size; j++) {
-				PolynomialFunction p = PolynomialUtil.create(vector[j]);
-				log.debug(p);
-				p = PolynomialUtil.multiply(p, matrix.getEntry(i, j));
-				log.debug(p);
-				result[i] = result[i].add(p);
+				data[i][j] = matrix.getEntry(i, j);
+			}
+			coefficients[i] = vector[i].getCoefficients();
+		}
+		double[][] product = multiply(data, coefficients);
+		PolynomialFunction[] result = new PolynomialFunction[size];
+		for (int i = 0; i < size; i++) {
+			result[i] = new PolynomialFunction(product[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Multiplies matrix of real numbers and column of polynomials given by
+	 * coefficients. Each row of result is accumulated in single array, no
+	 * intermediate polynomials are created.
+	 *
+	 * @param matrix       matrix
+	 * @param coefficients coefficients of polynomials of the column
+	 * @return coefficients of polynomials of product
+	 * @since Math 1.1
+	 */
+	public static double[][] multiply(double[][] matrix,
+			double[][] coefficients) {
+		int length = 1;
+		for (double[] c : coefficients) {
+			length = Math.max(length, c.length);
+		}
+		double[][] result = new double[matrix.length][length];
+		for (int i = 0; i < matrix.length; i++) {
+			if (matrix[i].length != coefficients.length) {
+				throw new IllegalArgumentException();
+			}
+			double[] row = result[i];
+			for (int j = 0; j < coefficients.length; j++) {
+				double a = matrix[i][j];
+				if (a != 0.0) {
+					double[] c = coefficients[j];
+					for (int k = 0; k < c.length; k++) {
+						row[k] += a * c[k];
+					}
+				}
 			}
-			log.debug("Polynom created: " + result[i]);
 		}
 		return result;
 	}
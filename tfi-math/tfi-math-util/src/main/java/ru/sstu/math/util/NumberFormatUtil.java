@@ -1,5 +1,6 @@
 package ru.sstu.math.util;
 
+import java.io.IOException;
 import java.util.Locale;
 
 /**
@@ -30,6 +31,36 @@ public final class NumberFormatUtil {
 	 */
 	private static final String EXPONENTIAL_FORMAT = "%1$.3e";
 
+	/**
+	 * Count of fraction digits in normal format.
+	 */
+	private static final int NORMAL_DIGITS = 5;
+
+	/**
+	 * Count of fraction digits in exponential format.
+	 */
+	private static final int EXPONENTIAL_DIGITS = 3;
+
+	/**
+	 * Powers of ten which are exactly representable as double.
+	 */
+	private static final double[] POWERS = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+	};
+
+	/**
+	 * Half width of interval around rounding tie in which result of fast
+	 * rounding may differ from {@link String#format(String, Object...)}.
+	 * Such values are formatted by the latter.
+	 */
+	private static final double TIE_WIDTH = 1e-6;
+
+	/**
+	 * Radix of decimal numbers.
+	 */
+	private static final int RADIX = 10;
+
 	/**
 	 * No instances needed.
 	 */
@@ -43,11 +74,193 @@ public final class NumberFormatUtil {
 	 * @return pretty string value
 	 */
 	public static String getPrettyNumber(Double value) {
-		String format = NORMAL_FORMAT;
-		if (Math.abs(value) > MAX_NORMAL_NUMBER
-				|| Math.abs(value) < MIN_NORMAL_NUMBER) {
-			format = EXPONENTIAL_FORMAT;
+		return appendPrettyNumber(new StringBuilder(), value).toString();
+	}
+
+	/**
+	 * Appends given value to builder. Result is the same as of
+	 * {@link #getPrettyNumber(Double)}, but neither value is boxed nor
+	 * intermediate strings are created, so builder can be reused for bulk
+	 * output.
+	 *
+	 * @param builder builder
+	 * @param value   value
+	 * @return the same builder
+	 * @since Math 1.1
+	 */
+	public static StringBuilder appendPrettyNumber(StringBuilder builder,
+			double value) {
+		try {
+			appendPrettyNumber((Appendable) builder, value);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		return builder;
+	}
+
+	/**
+	 * Appends given value to output. Result is the same as of
+	 * {@link #getPrettyNumber(Double)}.
+	 *
+	 * @param out   output
+	 * @param value value
+	 * @throws IOException if output error occurs
+	 * @since Math 1.1
+	 */
+	public static void appendPrettyNumber(Appendable out, double value)
+			throws IOException {
+		double abs = Math.abs(value);
+		boolean exponential = abs > MAX_NORMAL_NUMBER
+				|| abs < MIN_NORMAL_NUMBER;
+		boolean done = false;
+		if (exponential) {
+			done = appendExponential(out, value);
+		} else if (!Double.isNaN(value)) {
+			done = appendNormal(out, value);
+		}
+		if (!done) {
+			// Rare cases: ties, very large or small values and specials
+			String format = exponential ? EXPONENTIAL_FORMAT : NORMAL_FORMAT;
+			out.append(String.format(Locale.ENGLISH, format, value));
+		}
+	}
+
+	/**
+	 * Appends value in normal format if it can be rounded exactly.
+	 *
+	 * @param out   output
+	 * @param value value
+	 * @return <code>false</code> if value is too close to rounding tie
+	 * @throws IOException if output error occurs
+	 */
+	private static boolean appendNormal(Appendable out, double value)
+			throws IOException {
+		long digits = round(Math.abs(value) * POWERS[NORMAL_DIGITS]);
+		if (digits < 0) {
+			return false;
+		}
+		if (value < 0) {
+			out.append('-');
+		}
+		long unit = (long) POWERS[NORMAL_DIGITS];
+		appendDigits(out, digits / unit, 1);
+		out.append('.');
+		appendDigits(out, digits % unit, NORMAL_DIGITS);
+		return true;
+	}
+
+	/**
+	 * Appends value in exponential format if it can be rounded exactly.
+	 *
+	 * @param out   output
+	 * @param value value
+	 * @return <code>false</code> if value is too close to rounding tie,
+	 *         too large, too small or not a number
+	 * @throws IOException if output error occurs
+	 */
+	private static boolean appendExponential(Appendable out, double value)
+			throws IOException {
+		double abs = Math.abs(value);
+		if (abs == 0.0) {
+			if (Double.doubleToRawLongBits(value) != 0) {
+				out.append('-');
+			}
+			out.append("0.000e+00");
+			return true;
+		}
+		if (!(abs > 1.0 / POWERS[POWERS.length - 2]
+				&& abs < POWERS[POWERS.length - 2])) {
+			return false;
+		}
+		int exponent = exponent(abs);
+		long digits = round(scale(abs, exponent)
+				* POWERS[EXPONENTIAL_DIGITS]);
+		if (digits < 0) {
+			return false;
+		}
+		long unit = (long) POWERS[EXPONENTIAL_DIGITS];
+		if (digits == RADIX * unit) {
+			digits = unit;
+			exponent++;
+		}
+		if (value < 0) {
+			out.append('-');
+		}
+		out.append((char) ('0' + digits / unit));
+		out.append('.');
+		appendDigits(out, digits % unit, EXPONENTIAL_DIGITS);
+		out.append('e');
+		out.append(exponent < 0 ? '-' : '+');
+		appendDigits(out, Math.abs(exponent), 2);
+		return true;
+	}
+
+	/**
+	 * Calculates decimal exponent of positive value, so that mantissa is not
+	 * less than one and less than ten.
+	 *
+	 * @param abs positive value
+	 * @return decimal exponent
+	 */
+	private static int exponent(double abs) {
+		int exponent = (int) Math.floor(Math.log10(abs));
+		double mantissa = scale(abs, exponent);
+		if (mantissa < 1.0) {
+			return exponent - 1;
+		}
+		if (mantissa >= RADIX) {
+			return exponent + 1;
+		}
+		return exponent;
+	}
+
+	/**
+	 * Divides value by power of ten.
+	 *
+	 * @param value    value
+	 * @param exponent exponent of power of ten
+	 * @return scaled value
+	 */
+	private static double scale(double value, int exponent) {
+		if (exponent >= 0) {
+			return value / POWERS[exponent];
+		}
+		return value * POWERS[-exponent];
+	}
+
+	/**
+	 * Rounds value half up, as {@link java.util.Formatter} does.
+	 *
+	 * @param value non-negative value
+	 * @return rounded value or <code>-1</code> if value is too close to tie
+	 */
+	private static long round(double value) {
+		double floor = Math.floor(value);
+		if (Math.abs(value - floor - 1.0 / 2) < TIE_WIDTH) {
+			return -1;
+		}
+		return (long) Math.floor(value + 1.0 / 2);
+	}
+
+	/**
+	 * Appends decimal digits of non-negative value.
+	 *
+	 * @param out       output
+	 * @param value     value
+	 * @param minDigits minimal count of digits, leading zeros are added
+	 * @throws IOException if output error occurs
+	 */
+	private static void appendDigits(Appendable out, long value,
+			int minDigits) throws IOException {
+		long divisor = 1;
+		int count = 1;
+		while (divisor <= value / RADIX || count < minDigits) {
+			divisor *= RADIX;
+			count++;
+		}
+		while (divisor > 0) {
+			out.append((char) ('0' + value / divisor % RADIX));
+			divisor /= RADIX;
 		}
-		return String.format(Locale.ENGLISH, format, value);
 	}
 }
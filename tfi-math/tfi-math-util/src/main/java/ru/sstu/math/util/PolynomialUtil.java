@@ -1,16 +1,26 @@
 package ru.sstu.math.util;
 
+import java.util.Arrays;
+
 import org.apache.commons.math.analysis.polynomials.PolynomialFunction;
 
 /**
  * <code>PolynomialUtil</code> class contains of useful utility methods for
- * {@link PolynomialFunction} class.
+ * {@link PolynomialFunction} class. Methods which accept arrays work with
+ * coefficients directly, <code>c[i]</code> is coefficient of
+ * <code>x<sup>i</sup></code>, and do not create intermediate polynomials.
  *
  * @author Denis A. Murashev
  * @since Math 1.0
  */
 public final class PolynomialUtil {
 
+	/**
+	 * Length of polynomials below which schoolbook multiplication is faster
+	 * than Karatsuba one.
+	 */
+	private static final int KARATSUBA_THRESHOLD = 32;
+
 	/**
 	 * No instances needed.
 	 */
@@ -49,7 +59,7 @@ public final class PolynomialUtil {
 	 * @return sum
 	 */
 	public static PolynomialFunction sum(PolynomialFunction p, double... a) {
-		return p.add(create(a));
+		return new PolynomialFunction(add(p.getCoefficients(), a, 1.0));
 	}
 
 	/**
@@ -60,7 +70,7 @@ public final class PolynomialUtil {
 	 * @return difference
 	 */
 	public static PolynomialFunction diff(PolynomialFunction p, double... a) {
-		return p.subtract(create(a));
+		return new PolynomialFunction(add(p.getCoefficients(), a, -1.0));
 	}
 
 	/**
@@ -71,7 +81,11 @@ public final class PolynomialUtil {
 	 * @return product
 	 */
 	public static PolynomialFunction multiply(PolynomialFunction p, double a) {
-		return p.multiply(create(a));
+		double[] c = p.getCoefficients();
+		for (int i = 0; i < c.length; i++) {
+			c[i] *= a;
+		}
+		return new PolynomialFunction(c);
 	}
 
 	/**
@@ -82,24 +96,101 @@ public final class PolynomialUtil {
 	 * @return result of division
 	 */
 	public static PolynomialFunction divide(PolynomialFunction p, double a) {
-		return p.multiply(create(1.0 / a));
+		return multiply(p, 1.0 / a);
 	}
 
 	/**
-	 * Multiplies polynomial by itself for <code>exponent</code> times.
+	 * Raises polynomial to the <code>exponent</code> power.
 	 *
 	 * @param p polynomial
 	 * @param e exponent
 	 * @return polynomial to the <code>exponent</code> power
 	 */
 	public static PolynomialFunction power(PolynomialFunction p, int e) {
-		PolynomialFunction result = create(1.0);
-		for (int i = 0; i < e; i++) {
-			result = result.multiply(p);
+		return new PolynomialFunction(power(p.getCoefficients(), e));
+	}
+
+	/**
+	 * Raises polynomial to the <code>exponent</code> power by repeated
+	 * squaring, so only <code>O(log e)</code> multiplications are needed.
+	 *
+	 * @param c coefficients
+	 * @param e non-negative exponent
+	 * @return coefficients of polynomial to the <code>exponent</code> power
+	 * @since Math 1.1
+	 */
+	public static double[] power(double[] c, int e) {
+		if (e < 0 || c.length == 0) {
+			throw new IllegalArgumentException();
+		}
+		double[] result = {1.0};
+		double[] square = c;
+		int rest = e;
+		while (rest > 0) {
+			if ((rest & 1) != 0) {
+				result = multiply(result, square);
+			}
+			rest >>>= 1;
+			if (rest > 0) {
+				square = multiply(square, square);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Multiplies polynomials. Karatsuba algorithm is used for long
+	 * polynomials, it needs <code>O(n<sup>1.585</sup>)</code> operations
+	 * instead of <code>O(n<sup>2</sup>)</code>.
+	 *
+	 * @param a coefficients of the first polynomial
+	 * @param b coefficients of the second polynomial
+	 * @return coefficients of product
+	 * @since Math 1.1
+	 */
+	public static double[] multiply(double[] a, double[] b) {
+		if (a.length == 0 || b.length == 0) {
+			throw new IllegalArgumentException();
 		}
+		double[] result = new double[a.length + b.length - 1];
+		multiply(a, b, result);
 		return result;
 	}
 
+	/**
+	 * Multiplies polynomials into given array, so it can be reused.
+	 *
+	 * @param a      coefficients of the first polynomial
+	 * @param b      coefficients of the second polynomial
+	 * @param result array of at least <code>a.length + b.length - 1</code>
+	 *               length for coefficients of product, it must not be the
+	 *               same array as <code>a</code> or <code>b</code>
+	 * @since Math 1.1
+	 */
+	public static void multiply(double[] a, double[] b, double[] result) {
+		int length = a.length + b.length - 1;
+		if (a.length == 0 || b.length == 0 || result.length < length) {
+			throw new IllegalArgumentException();
+		}
+		if (Math.min(a.length, b.length) <= KARATSUBA_THRESHOLD) {
+			Arrays.fill(result, 0, length, 0.0);
+			for (int i = 0; i < a.length; i++) {
+				double ai = a[i];
+				for (int j = 0; j < b.length; j++) {
+					result[i + j] += ai * b[j];
+				}
+			}
+			return;
+		}
+		// Operands, product and scratch space share single array
+		int n = Math.max(a.length, b.length);
+		double[] d = new double[2 * 2 * n + scratchSize(n)];
+		System.arraycopy(a, 0, d, 0, a.length);
+		System.arraycopy(b, 0, d, n, b.length);
+		karatsuba(d, 0, n, n, 2 * n, 2 * 2 * n);
+		System.arraycopy(d, 2 * n, result, 0, length);
+	}
+
 	/**
 	 * Provides integral of the polynomial.
 	 *
@@ -117,4 +208,102 @@ public final class PolynomialUtil {
 		}
 		return new PolynomialFunction(values);
 	}
+
+	/**
+	 * Adds coefficients of polynomials.
+	 *
+	 * @param p      coefficients of the first polynomial
+	 * @param a      coefficients of the second polynomial
+	 * @param factor factor of the second polynomial
+	 * @return coefficients of <code>p + factor * a</code>
+	 */
+	private static double[] add(double[] p, double[] a, double factor) {
+		double[] c = Arrays.copyOf(p, Math.max(p.length, a.length));
+		for (int i = 0; i < a.length; i++) {
+			c[i] += factor * a[i];
+		}
+		return c;
+	}
+
+	/**
+	 * Multiplies polynomials of the same length by schoolbook algorithm.
+	 *
+	 * @param d       workspace
+	 * @param aOffset offset of the first polynomial
+	 * @param bOffset offset of the second polynomial
+	 * @param n       length of polynomials
+	 * @param rOffset offset of product
+	 */
+	private static void schoolbook(double[] d, int aOffset, int bOffset,
+			int n, int rOffset) {
+		Arrays.fill(d, rOffset, rOffset + 2 * n, 0.0);
+		for (int i = 0; i < n; i++) {
+			double ai = d[aOffset + i];
+			int start = rOffset + i;
+			for (int j = 0; j < n; j++) {
+				d[start + j] += ai * d[bOffset + j];
+			}
+		}
+	}
+
+	/**
+	 * Calculates size of scratch space needed by Karatsuba algorithm.
+	 *
+	 * @param n length of polynomials
+	 * @return size of scratch space
+	 */
+	private static int scratchSize(int n) {
+		int size = 0;
+		int length = n;
+		while (length > KARATSUBA_THRESHOLD) {
+			length -= length / 2;
+			size += 2 * 2 * length;
+		}
+		return size;
+	}
+
+	/**
+	 * Multiplies polynomials of the same length by Karatsuba algorithm.
+	 * Product occupies <code>2 * n</code> elements of workspace, the last
+	 * one is zero. Space after <code>wOffset</code> is used for
+	 * intermediate values.
+	 *
+	 * @param d       workspace
+	 * @param aOffset offset of the first polynomial
+	 * @param bOffset offset of the second polynomial
+	 * @param n       length of polynomials
+	 * @param rOffset offset of product
+	 * @param wOffset offset of free scratch space
+	 */
+	private static void karatsuba(double[] d, int aOffset, int bOffset,
+			int n, int rOffset, int wOffset) {
+		if (n <= KARATSUBA_THRESHOLD) {
+			schoolbook(d, aOffset, bOffset, n, rOffset);
+			return;
+		}
+		int low = n / 2;
+		int high = n - low;
+		karatsuba(d, aOffset, bOffset, low, rOffset, wOffset);
+		karatsuba(d, aOffset + low, bOffset + low, high, rOffset + 2 * low,
+				wOffset);
+		int sa = wOffset;
+		int sb = sa + high;
+		int z1 = sb + high;
+		for (int i = 0; i < high; i++) {
+			double al = i < low ? d[aOffset + i] : 0.0;
+			double bl = i < low ? d[bOffset + i] : 0.0;
+			d[sa + i] = al + d[aOffset + low + i];
+			d[sb + i] = bl + d[bOffset + low + i];
+		}
+		karatsuba(d, sa, sb, high, z1, z1 + 2 * high);
+		for (int i = 0; i < 2 * low - 1; i++) {
+			d[z1 + i] -= d[rOffset + i];
+		}
+		for (int i = 0; i < 2 * high - 1; i++) {
+			d[z1 + i] -= d[rOffset + 2 * low + i];
+		}
+		for (int i = 0; i < 2 * high - 1; i++) {
+			d[rOffset + low + i] += d[z1 + i];
+		}
+	}
 }
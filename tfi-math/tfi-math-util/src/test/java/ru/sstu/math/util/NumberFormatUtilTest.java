@@ -0,0 +1,90 @@
+package ru.sstu.math.util;
+
+import java.util.Locale;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * <code>NumberFormatUtilTest</code> class is unit test for
+ * {@link NumberFormatUtil} class.
+ *
+ * @author Denis A. Murashev
+ * @since Math 1.1
+ */
+public class NumberFormatUtilTest extends TestCase {
+
+	/**
+	 * Special and boundary values.
+	 */
+	private static final double[] VALUES = {
+		0.0, -0.0, 1.0, -1.0, 0.01, -0.01, 0.0099999, 1e4, -1e4, 10000.001,
+		9999.999995, 0.123455, 0.15, 2.5e-3, 9.9995e5, 9.99949e-7, 1e-300,
+		1e300, Double.MIN_VALUE, Double.MAX_VALUE, Double.NaN,
+		Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+	};
+
+	/**
+	 * Count of random values.
+	 */
+	private static final int SAMPLES = 100000;
+
+	/**
+	 * Maximal decimal exponent of random values.
+	 */
+	private static final int MAX_EXPONENT = 30;
+
+	/**
+	 * Radix.
+	 */
+	private static final double RADIX = 10.0;
+
+	/**
+	 * Minimal normal style number.
+	 */
+	private static final double MIN_NORMAL_NUMBER = 1e-2;
+
+	/**
+	 * Maximal normal style number.
+	 */
+	private static final double MAX_NORMAL_NUMBER = 1e4;
+
+	/**
+	 * Tests that result is the same as result of
+	 * {@link String#format(Locale, String, Object...)}.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testAppendPrettyNumber() throws Exception {
+		StringBuilder builder = new StringBuilder();
+		for (double value : VALUES) {
+			check(builder, value);
+		}
+		Random random = new Random(1);
+		for (int i = 0; i < SAMPLES; i++) {
+			double exponent = (2 * random.nextDouble() - 1) * MAX_EXPONENT;
+			double value = Math.pow(RADIX, exponent);
+			check(builder, random.nextBoolean() ? value : -value);
+			check(builder, Math.rint(value * RADIX) / RADIX);
+		}
+	}
+
+	/**
+	 * Checks single value.
+	 *
+	 * @param builder reused builder
+	 * @param value   value
+	 */
+	private static void check(StringBuilder builder, double value) {
+		double abs = Math.abs(value);
+		String format = "%1$.5f";
+		if (abs > MAX_NORMAL_NUMBER || abs < MIN_NORMAL_NUMBER) {
+			format = "%1$.3e";
+		}
+		String expected = String.format(Locale.ENGLISH, format, value);
+		builder.setLength(0);
+		NumberFormatUtil.appendPrettyNumber(builder, value);
+		assertEquals(expected, builder.toString());
+		assertEquals(expected, NumberFormatUtil.getPrettyNumber(value));
+	}
+}
@@ -12,6 +12,11 @@ import junit.framework.TestCase;
  */
 public class PolynomialUtilTest extends TestCase {
 
+	/**
+	 * Relative delta.
+	 */
+	private static final double DELTA = 1e-12;
+
 	/**
 	 * Test for {@link PolynomialUtil#integrate(PolynomialFunction, double)}
 	 * method.
@@ -27,4 +32,52 @@ public class PolynomialUtilTest extends TestCase {
 			assertEquals(expected[i], actual[i]);
 		}
 	}
+
+	/**
+	 * Test for {@link PolynomialUtil#multiply(double[], double[])} method
+	 * with polynomials long enough for Karatsuba algorithm.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testMultiply() throws Exception {
+		final int[] lengths = {1, 5, 33, 100, 257};
+		for (int n : lengths) {
+			for (int m : lengths) {
+				double[] a = new double[n];
+				double[] b = new double[m];
+				for (int i = 0; i < n; i++) {
+					a[i] = Math.sin(i + 1);
+				}
+				for (int i = 0; i < m; i++) {
+					b[i] = Math.cos(i + 1);
+				}
+				double[] expected = new PolynomialFunction(a).multiply(
+						new PolynomialFunction(b)).getCoefficients();
+				double[] actual = PolynomialUtil.multiply(a, b);
+				assertEquals(n + m - 1, actual.length);
+				for (int i = 0; i < actual.length; i++) {
+					assertEquals(expected[i], actual[i],
+							DELTA * Math.max(n, m));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test for {@link PolynomialUtil#power(PolynomialFunction, int)} method.
+	 *
+	 * @throws Exception if some error occurs
+	 */
+	public void testPower() throws Exception {
+		final int exponent = 13;
+		PolynomialFunction p = PolynomialUtil.create(1.0, 1.0);
+		double[] actual = PolynomialUtil.power(p, exponent).getCoefficients();
+		assertEquals(exponent + 1, actual.length);
+		double binomial = 1.0;
+		for (int k = 0; k <= exponent; k++) {
+			assertEquals(binomial, actual[k], DELTA * binomial);
+			binomial = binomial * (exponent - k) / (k + 1);
+		}
+		assertEquals(1.0, PolynomialUtil.power(p, 0).value(2.0));
+	}
 }